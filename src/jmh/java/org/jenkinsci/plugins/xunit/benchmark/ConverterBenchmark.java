@@ -0,0 +1,219 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.benchmark;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.jenkinsci.lib.dtkit.model.InputMetricFactory;
+import org.jenkinsci.plugins.xunit.XUnitDefaultValues;
+import org.jenkinsci.plugins.xunit.service.XUnitConversionService;
+import org.jenkinsci.plugins.xunit.service.XUnitLog;
+import org.jenkinsci.plugins.xunit.service.XUnitReportProcessorService;
+import org.jenkinsci.plugins.xunit.service.XUnitToolInfo;
+import org.jenkinsci.plugins.xunit.service.XUnitTransformerCallable;
+import org.jenkinsci.plugins.xunit.service.XUnitValidationService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hudson.model.TaskListener;
+
+/**
+ * Measures the throughput of the report processing of each built-in tool.
+ * <p>
+ * Each operation runs the same callable the build step sends to the node:
+ * it looks for the reports, validates them, converts them into JUnit reports
+ * and validates the converted ones. The processing options of the plugin are
+ * parameters so that their effect can be compared, for example:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ConverterBenchmark -p tool=NUNIT3 -p size=1MB -p pipelined=false,true -prof gc"
+ * </pre>
+ *
+ * Besides the operations per second, the {@code megabytes} and {@code tests}
+ * secondary results give the MB/s and tests/s of the processing. Run with
+ * {@code -prof gc} to get the allocation rate.
+ * <p>
+ * The biggest sizes take a while for each conversion, use
+ * {@code -bm ss -i 3} to measure them as single shots. Reports of 1GB do not
+ * fit the default heap of the fork, so they are measured only on request with
+ * a larger one:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ConverterBenchmark -p tool=NUNIT3 -p size=1GB -bm ss -i 3 -jvmArgsAppend -Xmx8g"
+ * </pre>
+ *
+ * @author Nikolas Falco
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ConverterBenchmark {
+
+    @Param
+    public ReportGenerator tool;
+
+    @Param({ "1KB", "1MB", "100MB" })
+    public String size;
+
+    /**
+     * How many copies of the report are processed by each operation.
+     */
+    @Param({ "1" })
+    public int files;
+
+    @Param({ "1" })
+    public int parallelism;
+
+    @Param({ "false" })
+    public boolean pipelined;
+
+    @Param({ "false" })
+    public boolean passthrough;
+
+    @Param({ "false" })
+    public boolean templatesCache;
+
+    @Param({ "false" })
+    public boolean schemaCache;
+
+    @Param({ "false" })
+    public boolean parallelScan;
+
+    /**
+     * Size in megabytes of the node cache of converted reports, 0 disables
+     * it.
+     */
+    @Param({ "0" })
+    public int conversionCacheSize;
+
+    private File workspace;
+    private File junitOutputDir;
+    private XUnitTransformerCallable callable;
+    private double megabytes;
+    private long tests;
+
+    /**
+     * Counts the data processed by an iteration, reported per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+        public double megabytes;
+        public long tests;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            megabytes = 0;
+            tests = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        workspace = Files.createTempDirectory("xunit-benchmark").toFile();
+        junitOutputDir = new File(workspace, XUnitDefaultValues.GENERATED_JUNIT_DIR);
+
+        File reports = new File(workspace, "reports");
+        File input = new File(reports, "input0.xml");
+        FileUtils.forceMkdir(reports);
+        int reportTests = tool.generate(input, parseSize(size));
+        for (int i = 1; i < files; i++) {
+            FileUtils.copyFile(input, new File(reports, "input" + i + ".xml"));
+        }
+        tests = (long) reportTests * files;
+        megabytes = files * input.length() / (1024d * 1024d);
+
+        XUnitToolInfo toolInfo = new XUnitToolInfo(InputMetricFactory.getInstance(tool.getMetric()), "reports/*.xml", //
+                false, false, false, true, 0, 0, 0, null);
+        toolInfo.setParallelism(parallelism);
+        toolInfo.setPipelined(pipelined);
+        toolInfo.setPassthrough(passthrough);
+        toolInfo.setTemplatesCache(templatesCache);
+        toolInfo.setSchemaCache(schemaCache);
+        toolInfo.setParallelScan(parallelScan);
+        toolInfo.setConversionCacheSize(conversionCacheSize * 1024L * 1024L);
+
+        XUnitLog log = new XUnitLog(TaskListener.NULL);
+        callable = new XUnitTransformerCallable(new XUnitReportProcessorService(log), new XUnitConversionService(log), //
+                new XUnitValidationService(log), toolInfo, log);
+    }
+
+    /*
+     * Converted reports are kept until the end of the iteration so that
+     * their deletion is not measured.
+     */
+    @TearDown(Level.Iteration)
+    public void cleanUp() throws Exception {
+        FileUtils.deleteDirectory(junitOutputDir);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        FileUtils.deleteDirectory(workspace);
+    }
+
+    @Benchmark
+    public int process(Throughput throughput) throws Exception {
+        int processed = callable.invoke(workspace, null);
+        throughput.megabytes += megabytes;
+        throughput.tests += tests;
+        return processed;
+    }
+
+    static long parseSize(String size) {
+        String value = size.trim().toUpperCase(Locale.ENGLISH);
+        long unit = 1;
+        if (value.endsWith("KB")) {
+            unit = 1024;
+        } else if (value.endsWith("MB")) {
+            unit = 1024 * 1024;
+        } else if (value.endsWith("GB")) {
+            unit = 1024 * 1024 * 1024;
+        }
+        if (unit != 1) {
+            value = value.substring(0, value.length() - 2);
+        }
+        return Long.parseLong(value.trim()) * unit;
+    }
+
+}
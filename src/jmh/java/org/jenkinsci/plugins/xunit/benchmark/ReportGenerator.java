@@ -0,0 +1,658 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.jenkinsci.lib.dtkit.model.InputMetric;
+import org.jenkinsci.plugins.xunit.types.AUnit;
+import org.jenkinsci.plugins.xunit.types.BoostTest;
+import org.jenkinsci.plugins.xunit.types.CTest;
+import org.jenkinsci.plugins.xunit.types.CUnit;
+import org.jenkinsci.plugins.xunit.types.CheckInputMetric;
+import org.jenkinsci.plugins.xunit.types.CppTest;
+import org.jenkinsci.plugins.xunit.types.CppUnit;
+import org.jenkinsci.plugins.xunit.types.EmbUnitInputMetric;
+import org.jenkinsci.plugins.xunit.types.FPCUnit;
+import org.jenkinsci.plugins.xunit.types.GTester;
+import org.jenkinsci.plugins.xunit.types.GoogleTestInputMetric;
+import org.jenkinsci.plugins.xunit.types.JUnitInputMetric;
+import org.jenkinsci.plugins.xunit.types.MbUnitInputMetric;
+import org.jenkinsci.plugins.xunit.types.MSTest;
+import org.jenkinsci.plugins.xunit.types.NUnit;
+import org.jenkinsci.plugins.xunit.types.NUnit3;
+import org.jenkinsci.plugins.xunit.types.PHPUnit;
+import org.jenkinsci.plugins.xunit.types.QTestLib;
+import org.jenkinsci.plugins.xunit.types.UnitTest;
+import org.jenkinsci.plugins.xunit.types.Valgrind;
+import org.jenkinsci.plugins.xunit.types.XUnitDotNet;
+
+/**
+ * Writes synthetic reports of a built-in tool.
+ * <p>
+ * A report is made of a header, a fragment for each test and a footer. One
+ * test out of ten fails so that the failure branches of the stylesheets are
+ * exercised too.
+ *
+ * @author Nikolas Falco
+ */
+public enum ReportGenerator {
+    AUNIT(AUnit.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version='1.0' encoding='utf-8' ?>\n<TestRun elapsed='6.280E-4'>\n");
+            out.write("  <Statistics>\n    <Tests>" + tests + "</Tests>\n    <FailuresTotal>0</FailuresTotal>\n");
+            out.write("    <Failures>0</Failures>\n    <Errors>0</Errors>\n  </Statistics>\n  <SuccessfulTests>\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("    <Test>\n      <Name>Test Suite" + (i / 100) + ".Test" + i + "</Name>\n    </Test>\n");
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("  </SuccessfulTests>\n</TestRun>\n");
+        }
+    },
+    BOOSTTEST(BoostTest.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<TestLog>\n  <TestSuite name=\"Master Test Suite\">\n    <TestSuite name=\"benchmark\">\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("      <TestCase name=\"test" + i + "\">\n");
+            if (isFailure(i)) {
+                out.write("        <Error file=\"test.cpp\" line=\"" + i + "\">check add( 2,3 ) == 4 failed</Error>\n");
+            } else {
+                out.write("        <Info file=\"test.cpp\" line=\"" + i + "\">check add( 2,2 ) == 4 passed</Info>\n");
+            }
+            out.write("        <TestingTime>" + (i % 1000) + "</TestingTime>\n      </TestCase>\n");
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("    </TestSuite>\n  </TestSuite>\n</TestLog>\n");
+        }
+    },
+    CHECK(CheckInputMetric.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\"?>\n<testsuites xmlns=\"http://check.sourceforge.net/ns\">\n");
+            out.write("  <datetime>2011-09-08 09:40:32</datetime>\n  <suite>\n    <title>benchmark.c</title>\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("    <test result=\"" + (isFailure(i) ? "failure" : "success") + "\">\n");
+            out.write("      <path>.</path>\n      <fn>benchmark.c:" + i + "</fn>\n      <id>test" + i + "</id>\n");
+            out.write("      <iteration>0</iteration>\n      <description>Core</description>\n");
+            out.write("      <message>" + (isFailure(i) ? "Assertion failed" : "Passed") + "</message>\n    </test>\n");
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("  </suite>\n  <duration>0.1</duration>\n</testsuites>\n");
+        }
+    },
+    CPPTEST(CppTest.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version='1.0' encoding='UTF-8'?>\n<ResultsSession time=\"07/21/09 17:52:59\" toolName=\"C++test\" toolVer=\"7.1.3.23\">\n");
+            out.write("  <Exec ownerId=\"com.parasoft.xtest.checkers.api.execution\" time=\"0:00:08\">\n    <ExecViols>\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("      <ExecViol cat=\"" + (isFailure(i) ? 4 : 6) + "\" lang=\"cpp\" ln=\"" + i + "\" testCaseId=\"" + i
+                    + "\" testName=\"TestSuite_benchmark::test" + i + "\">\n        <Thr lang=\"cpp\">\n");
+            out.write("          <ThrPart clName=\"" + (isFailure(i) ? "Assertion" : "Outcome") + "\" detMsg=\""
+                    + (isFailure(i) ? "Assertion failed: add(2, 3) == 4" : "Outcome: int _return=0") + "\">\n");
+            out.write("            <Trace fileName=\"/benchmark/TestSuite_benchmark.c\" ln=\"" + i + "\"></Trace>\n");
+            out.write("          </ThrPart>\n        </Thr>\n      </ExecViol>\n");
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("    </ExecViols>\n    <Summary>\n      <Projects>\n        <Project fail=\"" + tests / 10 + "\" name=\"benchmark\" pass=\""
+                    + (tests - tests / 10) + "\" testCases=\"" + tests + "\"></Project>\n");
+            out.write("      </Projects>\n    </Summary>\n  </Exec>\n</ResultsSession>\n");
+        }
+    },
+    CPPUNIT(CppUnit.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\" encoding='ISO-8859-1' standalone='yes' ?>\n<TestRun>\n  <SuccessfulTests>\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("    <Test id=\"" + i + "\">\n      <Name>Suite" + (i / 100) + "::test" + i + "</Name>\n    </Test>\n");
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("  </SuccessfulTests>\n  <Statistics>\n    <Tests>" + tests + "</Tests>\n");
+            out.write("    <FailuresTotal>0</FailuresTotal>\n    <Errors>0</Errors>\n    <Failures>0</Failures>\n");
+            out.write("  </Statistics>\n</TestRun>\n");
+        }
+    },
+    CTEST(CTest.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<Site BuildName=\"benchmark\" BuildStamp=\"20130513-1259-Experimental\""
+                    + " Name=\"benchmark\" Generator=\"ctest-2.8.11\">\n  <Testing>\n");
+            out.write("    <StartDateTime>May 13 14:59 CEST</StartDateTime>\n    <StartTestTime>1368449947</StartTestTime>\n");
+            out.write("    <TestList />\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("    <Test Status=\"" + (isFailure(i) ? "failed" : "passed") + "\">\n");
+            out.write("      <Name>test" + i + "</Name>\n      <Path>./suite" + (i / 100) + "</Path>\n");
+            out.write("      <FullName>./suite" + (i / 100) + "/test" + i + "</FullName>\n");
+            out.write("      <FullCommandLine>/usr/bin/test" + i + "</FullCommandLine>\n      <Results>\n");
+            out.write("        <NamedMeasurement type=\"numeric/double\" name=\"Execution Time\">\n");
+            out.write("          <Value>0.0970097</Value>\n        </NamedMeasurement>\n");
+            out.write("        <NamedMeasurement type=\"text/string\" name=\"Completion Status\">\n");
+            out.write("          <Value>Completed</Value>\n        </NamedMeasurement>\n");
+            out.write("        <Measurement>\n          <Value>output of test" + i + "</Value>\n        </Measurement>\n");
+            out.write("      </Results>\n    </Test>\n");
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("    <EndDateTime>May 13 15:00 CEST</EndDateTime>\n    <EndTestTime>1368450011</EndTestTime>\n");
+            out.write("    <ElapsedMinutes>1</ElapsedMinutes>\n  </Testing>\n</Site>\n");
+        }
+    },
+    CUNIT(CUnit.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\" ?>\n<CUNIT_TEST_RUN_REPORT>\n  <CUNIT_HEADER/>\n  <CUNIT_RESULT_LISTING>\n");
+            out.write("    <CUNIT_RUN_SUITE>\n      <CUNIT_RUN_SUITE_SUCCESS>\n        <SUITE_NAME>Benchmark</SUITE_NAME>\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("        <CUNIT_RUN_TEST_RECORD>\n");
+            if (isFailure(i)) {
+                out.write("          <CUNIT_RUN_TEST_FAILURE>\n            <TEST_NAME>Test " + i + "</TEST_NAME>\n");
+                out.write("            <FILE_NAME>benchmark.c</FILE_NAME>\n            <LINE_NUMBER>" + i + "</LINE_NUMBER>\n");
+                out.write("            <CONDITION>Expected : 4 , Result : 5</CONDITION>\n          </CUNIT_RUN_TEST_FAILURE>\n");
+            } else {
+                out.write("          <CUNIT_RUN_TEST_SUCCESS>\n            <TEST_NAME>Test " + i + "</TEST_NAME>\n          </CUNIT_RUN_TEST_SUCCESS>\n");
+            }
+            out.write("        </CUNIT_RUN_TEST_RECORD>\n");
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("      </CUNIT_RUN_SUITE_SUCCESS>\n    </CUNIT_RUN_SUITE>\n  </CUNIT_RESULT_LISTING>\n  <CUNIT_FOOTER/>\n");
+            out.write("</CUNIT_TEST_RUN_REPORT>\n");
+        }
+    },
+    EMBUNIT(EmbUnitInputMetric.class) {
+        @Override
+        void write(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\" encoding='utf-8' standalone='yes' ?>\n<TestRun>\n  <Statistics>\n");
+            out.write("    <Tests>" + tests + "</Tests>\n    <Failures>" + tests / 10 + "</Failures>\n  </Statistics>\n");
+            out.write("  <SuccessfulTests>\n");
+            for (int i = 0; i < tests; i++) {
+                if (!isFailure(i)) {
+                    out.write("    <Test id=\"" + i + "\">\n      <Name>Suite" + (i / 100) + ".test" + i + "</Name>\n    </Test>\n");
+                }
+            }
+            out.write("  </SuccessfulTests>\n  <FailedTests>\n");
+            for (int i = 0; i < tests; i++) {
+                if (isFailure(i)) {
+                    out.write("    <FailedTest id=\"" + i + "\">\n      <Name>Suite" + (i / 100) + ".test" + i + "</Name>\n");
+                    out.write("      <Location>\n        <File>benchmark.c</File>\n        <Line>" + i + "</Line>\n      </Location>\n");
+                    out.write("      <Message>exp 4 was 5</Message>\n    </FailedTest>\n");
+                }
+            }
+            out.write("  </FailedTests>\n</TestRun>\n");
+        }
+    },
+    FPCUNIT(FPCUnit.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<TestResults>\n  <TestListing>\n    <TestSuite Name=\"benchmark\" ElapsedTime=\"00:00:00.011\""
+                    + " NumberOfErrors=\"0\" NumberOfFailures=\"0\" NumberOfRunTests=\"" + tests + "\" NumberOfIgnoredTests=\"0\">\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            if (isFailure(i)) {
+                out.write("      <Test Name=\"Test" + i + "\" Result=\"Failed\" ElapsedTime=\"00:00:00.001\">\n");
+                out.write("        <Message>Expected 1 but was 2</Message>\n        <ExceptionClass>EAssertionFailedError</ExceptionClass>\n");
+                out.write("        <ExceptionMessage>Expected 1 but was 2</ExceptionMessage>\n      </Test>\n");
+            } else {
+                out.write("      <Test Name=\"Test" + i + "\" Result=\"OK\" ElapsedTime=\"00:00:00.001\"/>\n");
+            }
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("    </TestSuite>\n  </TestListing>\n  <Title>FPCUnit benchmark</Title>\n</TestResults>\n");
+        }
+    },
+    GOOGLETEST(GoogleTestInputMetric.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuites tests=\"" + tests + "\" failures=\"" + tests / 10
+                    + "\" disabled=\"0\" errors=\"0\" time=\"1\" name=\"AllTests\">\n");
+            out.write("  <testsuite name=\"Benchmark\" tests=\"" + tests + "\" failures=\"" + tests / 10
+                    + "\" disabled=\"0\" errors=\"0\" time=\"1\">\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("    <testcase name=\"test" + i + "\" status=\"run\" time=\"0.001\" classname=\"Benchmark\"");
+            if (isFailure(i)) {
+                out.write(">\n      <failure message=\"Value of: add(2, 3)&#x0A;Expected: 4\" type=\"\"><![CDATA[benchmark.cc:"
+                        + i + "\nValue of: add(2, 3)\nExpected: 4]]></failure>\n    </testcase>\n");
+            } else {
+                out.write(" />\n");
+            }
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("  </testsuite>\n</testsuites>\n");
+        }
+    },
+    GTESTER(GTester.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\"?>\n<gtester>\n  <testbinary path=\"benchmark\">\n");
+            out.write("    <binary file=\"/usr/lib/tests/benchmark\" />\n    <random-seed>R02S74e68fd98de232755beacd96cfe4f7af</random-seed>\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("    <testcase path=\"/benchmark/test" + i + "\">\n");
+            if (isFailure(i)) {
+                out.write("      <error>benchmark.c:" + i + ": assertion failed</error>\n      <duration>0.000163</duration>\n");
+                out.write("      <status exit-status=\"-256\" n-forks=\"0\" result=\"failed\" />\n    </testcase>\n");
+            } else {
+                out.write("      <duration>0.000163</duration>\n");
+                out.write("      <status exit-status=\"0\" n-forks=\"0\" result=\"success\" />\n    </testcase>\n");
+            }
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("    <duration>0.104294</duration>\n  </testbinary>\n</gtester>\n");
+        }
+    },
+    JUNIT(JUnitInputMetric.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuite errors=\"0\" failures=\"" + tests / 10
+                    + "\" name=\"Benchmark\" tests=\"" + tests + "\" time=\"1\">\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("  <testcase classname=\"Benchmark\" name=\"test" + i + "\" time=\"0.001\"");
+            if (isFailure(i)) {
+                out.write(">\n    <failure message=\"expected 4\" type=\"AssertionError\">at Benchmark.test" + i
+                        + "(Benchmark.java:" + i + ")</failure>\n  </testcase>\n");
+            } else {
+                out.write(" />\n");
+            }
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("</testsuite>\n");
+        }
+    },
+    MBUNIT(MbUnitInputMetric.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            String counter = "<counter duration=\"1\" run-count=\"" + tests + "\" success-count=\"" + (tests - tests / 10)
+                    + "\" failure-count=\"" + tests / 10 + "\" ignore-count=\"0\" skip-count=\"0\" assert-count=\"" + tests + "\"/>\n";
+            out.write("<?xml version=\"1.0\" encoding=\"utf-8\"?>\n<report-result date=\"2012-11-13T15:05:58.9922051-08:00\">\n");
+            out.write("  " + counter + "  <assemblies>\n    <assembly name=\"Benchmark.Tests\" location=\"file:///C:/Benchmark.Tests.dll\">\n");
+            out.write("      " + counter + "      <namespaces>\n        <namespace name=\"Benchmark\">\n          " + counter);
+            out.write("          <namespaces/>\n          <fixtures>\n            <fixture name=\"Suite\" type=\"Benchmark.Suite\">\n");
+            out.write("              " + counter + "              <runs>\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("                <run name=\"Suite.Test" + i + "\" result=\"" + (isFailure(i) ? "failure" : "success")
+                    + "\" assert-count=\"1\" duration=\"0.001\" memory=\"8192\">\n");
+            out.write("                  <console-out/>\n                  <console-error/>\n");
+            if (isFailure(i)) {
+                out.write("                  <exception type=\"MbUnit.Core.Exceptions.NotEqualAssertionException\">\n");
+                out.write("                    <message>Equal assertion failed: [[4]]!=[[5]]</message>\n");
+                out.write("                    <stack-trace>at Benchmark.Suite.Test" + i + "()</stack-trace>\n                  </exception>\n");
+            }
+            out.write("                </run>\n");
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("              </runs>\n            </fixture>\n          </fixtures>\n        </namespace>\n      </namespaces>\n");
+            out.write("    </assembly>\n  </assemblies>\n</report-result>\n");
+        }
+    },
+    MSTEST(MSTest.class) {
+        private static final String NS = "http://microsoft.com/schemas/VisualStudio/TeamTest/2006";
+        private static final String TEST_LIST = "8c84fa94-04c1-424b-9868-57a2d4851a1d";
+
+        @Override
+        void write(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<TestRun id=\"930638c2-1646-4d97-ad3d-2b49651e7472\""
+                    + " name=\"benchmark\" runUser=\"jenkins\" xmlns=\"" + NS + "\">\n");
+            out.write("  <ResultSummary outcome=\"Failed\">\n    <Counters total=\"" + tests + "\" executed=\"" + tests
+                    + "\" passed=\"" + (tests - tests / 10) + "\" error=\"0\" failed=\"" + tests / 10 + "\" />\n  </ResultSummary>\n");
+            out.write("  <Times creation=\"2009-01-11T16:22:44.4687500-02:00\" start=\"2009-01-11T16:22:46.2343750-02:00\""
+                    + " finish=\"2009-01-11T16:22:46.7187500-02:00\" />\n  <TestDefinitions>\n");
+            for (int i = 0; i < tests; i++) {
+                out.write("    <UnitTest name=\"Test" + i + "\" storage=\"benchmark.dll\" id=\"" + id(0, i) + "\">\n");
+                out.write("      <Execution id=\"" + id(1, i) + "\" />\n");
+                out.write("      <TestMethod codeBase=\"benchmark.dll\" className=\"Benchmark.Suite" + (i / 100)
+                        + ", Benchmark\" name=\"Test" + i + "\" />\n    </UnitTest>\n");
+            }
+            out.write("  </TestDefinitions>\n  <TestLists>\n    <TestList name=\"Results Not in a List\" id=\"" + TEST_LIST
+                    + "\" />\n  </TestLists>\n  <TestEntries>\n");
+            for (int i = 0; i < tests; i++) {
+                out.write("    <TestEntry testId=\"" + id(0, i) + "\" executionId=\"" + id(1, i) + "\" testListId=\""
+                        + TEST_LIST + "\" />\n");
+            }
+            out.write("  </TestEntries>\n  <Results>\n");
+            for (int i = 0; i < tests; i++) {
+                out.write("    <UnitTestResult executionId=\"" + id(1, i) + "\" testId=\"" + id(0, i) + "\" testName=\"Test" + i
+                        + "\" computerName=\"jenkins\" duration=\"00:00:00.0157226\" startTime=\"2009-01-11T16:22:46.2968750-02:00\""
+                        + " endTime=\"2009-01-11T16:22:46.5625000-02:00\" testType=\"13cdc9d9-ddb5-4fa4-a97d-d965ccfc6d4b\""
+                        + " outcome=\"" + (isFailure(i) ? "Failed" : "Passed") + "\" testListId=\"" + TEST_LIST + "\">\n");
+                if (isFailure(i)) {
+                    out.write("      <Output>\n        <ErrorInfo>\n          <Message>Assert.AreEqual failed. Expected:&lt;2&gt;."
+                            + " Actual:&lt;1&gt;.</Message>\n          <StackTrace>at Benchmark.Test" + i
+                            + "()</StackTrace>\n        </ErrorInfo>\n      </Output>\n");
+                }
+                out.write("    </UnitTestResult>\n");
+            }
+            out.write("  </Results>\n</TestRun>\n");
+        }
+
+        private String id(int kind, int i) {
+            return String.format("%08x-%04x-4000-8000-000000000000", i, kind);
+        }
+    },
+    NUNIT(NUnit.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\" encoding=\"utf-8\" standalone=\"no\"?>\n<test-results name=\"Benchmark.dll\" total=\""
+                    + tests + "\" failures=\"" + tests / 10 + "\" not-run=\"0\" date=\"2007-07-27\" time=\"11:18:43\">\n");
+            out.write("  <test-suite name=\"Benchmark.dll\" success=\"False\" time=\"0.404\" asserts=\"0\">\n    <results>\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("      <test-case name=\"Benchmark.Suite.Test" + i + "\" executed=\"True\" success=\""
+                    + (isFailure(i) ? "False" : "True") + "\" time=\"0.001\" asserts=\"1\"");
+            if (isFailure(i)) {
+                out.write(">\n        <failure>\n          <message><![CDATA[Expected: 4 But was: 5]]></message>\n");
+                out.write("          <stack-trace><![CDATA[at Benchmark.Suite.Test" + i
+                        + "()]]></stack-trace>\n        </failure>\n      </test-case>\n");
+            } else {
+                out.write(" />\n");
+            }
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("    </results>\n  </test-suite>\n</test-results>\n");
+        }
+    },
+    NUNIT3(NUnit3.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\" encoding=\"utf-8\" standalone=\"no\"?>\n<test-run id=\"2\" testcasecount=\"" + tests
+                    + "\" result=\"Failed\" total=\"" + tests + "\" passed=\"" + (tests - tests / 10) + "\" failed=\"" + tests / 10
+                    + "\" inconclusive=\"0\" skipped=\"0\" asserts=\"0\" engine-version=\"3.2.0.0\""
+                    + " start-time=\"2016-06-04 16:57:40Z\" end-time=\"2016-06-04 16:58:31Z\" duration=\"50.641110\">\n");
+            out.write("  <test-suite type=\"TestFixture\" id=\"1-1000\" name=\"Suite\" fullname=\"Benchmark.Suite\""
+                    + " classname=\"Benchmark.Suite\" runstate=\"Runnable\" testcasecount=\"" + tests + "\" result=\"Failed\""
+                    + " duration=\"50.5\" total=\"" + tests + "\" passed=\"" + (tests - tests / 10) + "\" failed=\"" + tests / 10
+                    + "\" inconclusive=\"0\" skipped=\"0\" asserts=\"0\">\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("    <test-case id=\"1-" + i + "\" name=\"Test" + i + "\" fullname=\"Benchmark.Suite.Test" + i
+                    + "\" methodname=\"Test" + i + "\" classname=\"Benchmark.Suite\" runstate=\"Runnable\" result=\""
+                    + (isFailure(i) ? "Failed" : "Passed") + "\" start-time=\"2016-06-04 16:57:58Z\""
+                    + " end-time=\"2016-06-04 16:57:58Z\" duration=\"0.001\" asserts=\"1\"");
+            if (isFailure(i)) {
+                out.write(">\n      <failure>\n        <message><![CDATA[Expected: 4 But was: 5]]></message>\n");
+                out.write("        <stack-trace><![CDATA[at Benchmark.Suite.Test" + i
+                        + "()]]></stack-trace>\n      </failure>\n    </test-case>\n");
+            } else {
+                out.write(" />\n");
+            }
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("  </test-suite>\n</test-run>\n");
+        }
+    },
+    PHPUNIT(PHPUnit.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<testsuites>\n  <testsuite name=\"BenchmarkTest\""
+                    + " file=\"BenchmarkTest.php\" tests=\"" + tests + "\" failures=\"" + tests / 10 + "\" errors=\"0\" time=\"1\">\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("    <testcase name=\"test" + i + "\" class=\"BenchmarkTest\" file=\"BenchmarkTest.php\" line=\"" + i
+                    + "\" time=\"0.001\"");
+            if (isFailure(i)) {
+                out.write(">\n      <failure type=\"PHPUnit_Framework_ExpectationFailedException\">Failed asserting that 5"
+                        + " matches expected 4.\nBenchmarkTest.php:" + i + "</failure>\n    </testcase>\n");
+            } else {
+                out.write(" />\n");
+            }
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("  </testsuite>\n</testsuites>\n");
+        }
+    },
+    QTESTLIB(QTestLib.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<TestCase name=\"tst_Benchmark\">\n  <Environment>\n");
+            out.write("    <QtVersion>5.0.0</QtVersion>\n    <QTestVersion>5.0.0</QTestVersion>\n  </Environment>\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("  <TestFunction name=\"test" + i + "\">\n");
+            if (isFailure(i)) {
+                out.write("    <Incident type=\"fail\" file=\"tst_benchmark.cpp\" line=\"" + i + "\">\n");
+                out.write("      <Description><![CDATA[Compared values are not the same]]></Description>\n    </Incident>\n");
+            } else {
+                out.write("    <Incident type=\"pass\" file=\"\" line=\"0\"/>\n");
+            }
+            out.write("  </TestFunction>\n");
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("</TestCase>\n");
+        }
+    },
+    UNITTEST(UnitTest.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\"?>\n<unittest-results tests=\"" + tests + "\" failedtests=\"" + tests / 10
+                    + "\" failures=\"" + tests / 10 + "\" time=\"12\">\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("  <test suite=\"Suite" + (i / 100) + "\" name=\"Test" + i + "\" time=\"1\"");
+            if (isFailure(i)) {
+                out.write(">\n    <failure message=\"benchmark.cpp(" + i + ") : false\"/>\n  </test>\n");
+            } else {
+                out.write("/>\n");
+            }
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("</unittest-results>\n");
+        }
+    },
+    VALGRIND(Valgrind.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<valgrindoutput>\n  <protocolversion>4</protocolversion>\n");
+            out.write("  <protocoltool>memcheck</protocoltool>\n  <preamble>\n    <line>Memcheck, a memory error detector</line>\n");
+            out.write("  </preamble>\n  <pid>18559</pid>\n  <ppid>18472</ppid>\n  <tool>memcheck</tool>\n  <args>\n");
+            out.write("    <vargv>\n      <exe>/usr/bin/valgrind</exe>\n    </vargv>\n    <argv>\n      <exe>./benchmark</exe>\n");
+            out.write("    </argv>\n  </args>\n  <status>\n    <state>RUNNING</state>\n    <time>00:00:00:00.008</time>\n  </status>\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("  <error>\n    <unique>0x" + Integer.toHexString(i) + "</unique>\n    <tid>1</tid>\n");
+            out.write("    <kind>UninitCondition</kind>\n    <what>Conditional jump or move depends on uninitialised value(s)</what>\n");
+            out.write("    <stack>\n      <frame>\n        <ip>0x100011C2F</ip>\n        <obj>/usr/lib/libbenchmark.so</obj>\n");
+            out.write("        <fn>function" + i + "</fn>\n        <dir>/src</dir>\n        <file>benchmark.c</file>\n");
+            out.write("        <line>" + i + "</line>\n      </frame>\n    </stack>\n  </error>\n");
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("  <status>\n    <state>FINISHED</state>\n    <time>00:00:00:01.000</time>\n  </status>\n</valgrindoutput>\n");
+        }
+    },
+    XUNITDOTNET(XUnitDotNet.class) {
+        @Override
+        void header(Writer out, int tests) throws IOException {
+            out.write("<?xml version=\"1.0\" encoding=\"utf-8\"?>\n<assemblies>\n  <assembly name=\"Benchmark.dll\""
+                    + " environment=\"64-bit .NET 4.0.30319.18444\" test-framework=\"xUnit.net 2.0.0.2785\" run-date=\"2014-12-18\""
+                    + " run-time=\"14:34:32\" total=\"" + tests + "\" passed=\"" + (tests - tests / 10) + "\" failed=\"" + tests / 10
+                    + "\" skipped=\"0\" time=\"0.288\" errors=\"0\">\n    <errors />\n");
+            out.write("    <collection total=\"" + tests + "\" passed=\"" + (tests - tests / 10) + "\" failed=\"" + tests / 10
+                    + "\" skipped=\"0\" name=\"Test collection for Benchmark.Suite\" time=\"0.025\">\n");
+        }
+
+        @Override
+        void test(Writer out, int i) throws IOException {
+            out.write("      <test name=\"Benchmark.Suite.Test" + i + "\" type=\"Benchmark.Suite\" method=\"Test" + i
+                    + "\" time=\"0.001\" result=\"" + (isFailure(i) ? "Fail" : "Pass") + "\"");
+            if (isFailure(i)) {
+                out.write(">\n        <failure exception-type=\"Xunit.Sdk.TrueException\">\n");
+                out.write("          <message><![CDATA[Assert.True() Failure]]></message>\n");
+                out.write("          <stack-trace><![CDATA[at Benchmark.Suite.Test" + i
+                        + "()]]></stack-trace>\n        </failure>\n      </test>\n");
+            } else {
+                out.write(" />\n");
+            }
+        }
+
+        @Override
+        void footer(Writer out, int tests) throws IOException {
+            out.write("    </collection>\n  </assembly>\n</assemblies>\n");
+        }
+    };
+
+    private static final int SAMPLE_TESTS = 100;
+
+    private final Class<? extends InputMetric> metric;
+
+    ReportGenerator(Class<? extends InputMetric> metric) {
+        this.metric = metric;
+    }
+
+    /**
+     * Returns the metric that converts the reports of this generator.
+     *
+     * @return the input metric class
+     */
+    public Class<? extends InputMetric> getMetric() {
+        return metric;
+    }
+
+    /**
+     * Writes a report with about the given size in the specified file.
+     *
+     * @param file where write the report
+     * @param size the size of the report in bytes
+     * @return the number of tests written in the report
+     * @throws IOException if the report could not be written
+     */
+    public int generate(File file, long size) throws IOException {
+        StringWriter sample = new StringWriter();
+        write(sample, SAMPLE_TESTS);
+        StringWriter empty = new StringWriter();
+        write(empty, 0);
+
+        long testSize = Math.max(1, (sample.getBuffer().length() - empty.getBuffer().length()) / SAMPLE_TESTS);
+        int tests = (int) Math.max(1, Math.min(Integer.MAX_VALUE, (size - empty.getBuffer().length()) / testSize));
+        try (Writer out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            write(out, tests);
+        }
+        return tests;
+    }
+
+    void write(Writer out, int tests) throws IOException {
+        header(out, tests);
+        for (int i = 0; i < tests; i++) {
+            test(out, i);
+        }
+        footer(out, tests);
+    }
+
+    void header(Writer out, int tests) throws IOException {
+    }
+
+    void test(Writer out, int i) throws IOException {
+    }
+
+    void footer(Writer out, int tests) throws IOException {
+    }
+
+    private static boolean isFailure(int i) {
+        return i % 10 == 9;
+    }
+}
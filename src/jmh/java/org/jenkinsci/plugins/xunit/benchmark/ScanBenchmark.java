@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.jenkinsci.plugins.xunit.service.XUnitLog;
+import org.jenkinsci.plugins.xunit.service.XUnitReportProcessorService;
+import org.jenkinsci.plugins.xunit.service.XUnitToolInfo;
+import org.jenkinsci.plugins.xunit.types.JUnitInputMetric;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hudson.model.TaskListener;
+
+/**
+ * Measures the search of reports in a workspace shaped like a multi module
+ * build, where each module has 900 sources, 90 classes and 10 reports.
+ * <p>
+ * The {@code parallelScan} parameter compares the Ant directory scanner with
+ * the parallel walk that skips folders which could not contain any report,
+ * for example on one million files:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ScanBenchmark -p modules=1000 -p parallelScan=false,true -p parallelism=1,4"
+ * </pre>
+ *
+ * @author Nikolas Falco
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ScanBenchmark {
+
+    @Param({ "100" })
+    public int modules;
+
+    @Param({ "false", "true" })
+    public boolean parallelScan;
+
+    @Param({ "1" })
+    public int parallelism;
+
+    private File workspace;
+    private XUnitToolInfo toolInfo;
+    private XUnitReportProcessorService service;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        workspace = Files.createTempDirectory("xunit-benchmark").toFile();
+        for (int m = 0; m < modules; m++) {
+            for (int f = 0; f < 900; f++) {
+                touch("module" + m + "/src/main/java/pkg" + (f % 30) + "/Class" + f + ".java");
+            }
+            for (int f = 0; f < 90; f++) {
+                touch("module" + m + "/target/classes/pkg" + (f % 30) + "/Class" + f + ".class");
+            }
+            for (int f = 0; f < 10; f++) {
+                touch("module" + m + "/target/surefire-reports/TEST-Test" + f + ".xml");
+            }
+        }
+
+        toolInfo = new XUnitToolInfo(new JUnitInputMetric(), "**/target/surefire-reports/TEST-*.xml", //
+                false, false, false, true, 0, 0, 0, null);
+        toolInfo.setParallelScan(parallelScan);
+        toolInfo.setParallelism(parallelism);
+        service = new XUnitReportProcessorService(new XUnitLog(TaskListener.NULL));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        FileUtils.deleteDirectory(workspace);
+    }
+
+    @Benchmark
+    public String[] scan() throws Exception {
+        return service.findReports(workspace, toolInfo);
+    }
+
+    private void touch(String path) throws IOException {
+        Path file = workspace.toPath().resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.createFile(file);
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.benchmark;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.jenkinsci.lib.dtkit.model.InputMetric;
+import org.jenkinsci.lib.dtkit.model.InputMetricFactory;
+import org.jenkinsci.plugins.xunit.service.XUnitLog;
+import org.jenkinsci.plugins.xunit.service.XUnitToolInfo;
+import org.jenkinsci.plugins.xunit.service.XUnitValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import hudson.model.TaskListener;
+
+/**
+ * Measures the validation of a report and of its converted JUnit report.
+ * <p>
+ * The {@code metric} benchmark validates through the tool metric, which
+ * compiles the XSD schemas at each call, while the {@code service} one
+ * validates through the plugin service with the schema cache enabled, which
+ * compiles them once. For example:
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ValidationBenchmark -p tool=NUNIT,PHPUNIT -p size=1KB,1MB -prof gc"
+ * </pre>
+ *
+ * Tools without an input schema only validate the converted report.
+ *
+ * @author Nikolas Falco
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ValidationBenchmark {
+
+    @Param
+    public ReportGenerator tool;
+
+    @Param({ "1KB", "1MB", "100MB" })
+    public String size;
+
+    private File workspace;
+    private File input;
+    private File output;
+    private InputMetric metric;
+    private XUnitToolInfo toolInfo;
+    private XUnitValidationService service;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        workspace = Files.createTempDirectory("xunit-benchmark").toFile();
+        input = new File(workspace, "input.xml");
+        output = new File(workspace, "junit.xml");
+        tool.generate(input, ConverterBenchmark.parseSize(size));
+
+        metric = InputMetricFactory.getInstance(tool.getMetric());
+        metric.convert(input, output);
+        toolInfo = new XUnitToolInfo(metric, "*.xml", false, false, false, true, 0, 0, 0, null);
+        toolInfo.setSchemaCache(true);
+        service = new XUnitValidationService(new XUnitLog(TaskListener.NULL));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        FileUtils.deleteDirectory(workspace);
+    }
+
+    @Benchmark
+    public boolean metric() throws Exception {
+        return metric.validateInputFile(input) & metric.validateOutputFile(output);
+    }
+
+    @Benchmark
+    public boolean service() {
+        return service.validateInputFile(toolInfo, input) & service.validateOutputFile(toolInfo, input, output);
+    }
+
+}
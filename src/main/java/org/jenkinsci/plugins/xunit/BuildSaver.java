@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.model.listeners.RunListener;
+import jenkins.util.Timer;
+
+/**
+ * Coalesces the saves of a build requested by repeated xUnit steps.
+ * <p>
+ * Steps always merge their results into the test result action before
+ * returning, that writes junitResult.xml, so only build.xml is deferred. When
+ * a quiet period is configured the first request schedules the save at the
+ * end of the period and any other request in the meantime is served by the
+ * same save. Pending saves are always written when the build completes.
+ *
+ * @author Nikolas Falco
+ */
+final class BuildSaver {
+    private static final Logger LOGGER = Logger.getLogger(BuildSaver.class.getName());
+
+    private static final Map<Run<?, ?>, ScheduledFuture<?>> PENDING = new ConcurrentHashMap<>();
+
+    private BuildSaver() {
+    }
+
+    /**
+     * Saves the given build now or within the configured quiet period.
+     *
+     * @param build the build to save
+     * @throws IOException if the build is saved immediately and fails
+     */
+    static void save(@NonNull Run<?, ?> build) throws IOException {
+        long quietPeriod = XUnitProcessor.SAVE_QUIET_PERIOD;
+        if (quietPeriod <= 0) {
+            build.save();
+            return;
+        }
+        PENDING.computeIfAbsent(build, b -> Timer.get().schedule(() -> flush(b), quietPeriod, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Writes the pending save of the given build, if any.
+     *
+     * @param build the build to save
+     */
+    static void flush(@NonNull Run<?, ?> build) {
+        ScheduledFuture<?> pending = PENDING.remove(build);
+        if (pending == null) {
+            return;
+        }
+        pending.cancel(false);
+        // steps change the actions of the build holding its lock
+        synchronized (build) { // NOSONAR
+            try {
+                build.save();
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Failed to save " + build, e);
+            }
+        }
+    }
+
+    /**
+     * Ensures no save is left pending once the build is over.
+     */
+    @Extension
+    public static class FlushOnCompletion extends RunListener<Run<?, ?>> {
+        @Override
+        public void onCompleted(Run<?, ?> run, @NonNull TaskListener listener) {
+            flush(run);
+        }
+    }
+
+}
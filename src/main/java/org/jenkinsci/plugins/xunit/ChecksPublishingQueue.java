@@ -0,0 +1,371 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Extension;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.model.listeners.RunListener;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
+import hudson.util.StreamTaskListener;
+import io.jenkins.plugins.checks.api.ChecksDetails;
+import io.jenkins.plugins.checks.api.ChecksPublisher;
+import jenkins.util.Timer;
+
+/**
+ * Publishes checks on a bounded pool of background threads so that a slow
+ * checks backend does not hold up the build.
+ * <p>
+ * A failed publication is retried with an exponential backoff. Publishers
+ * usually report their failures to the listener instead of throwing, so each
+ * publication gets its own listener and an error printed there fails it too.
+ * Checks with the same name of the same build are published in order, a
+ * publication still queued is replaced by a newer one. Publications that
+ * failed, and the output of the last publication of each checks, are reported
+ * in the build log when the build completes.
+ *
+ * @author Nikolas Falco
+ */
+final class ChecksPublishingQueue {
+    private static final Logger LOGGER = Logger.getLogger(ChecksPublishingQueue.class.getName());
+
+    private static final ChecksPublishingQueue INSTANCE = new ChecksPublishingQueue(2, 100, 5, TimeUnit.SECONDS.toMillis(1));
+
+    private final ThreadPoolExecutor executor;
+    private final int maxAttempts;
+    private final long backoff;
+    private final Map<Run<?, ?>, BuildPublications> builds = new ConcurrentHashMap<>();
+
+    ChecksPublishingQueue(int threads, int capacity, int maxAttempts, long backoff) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(capacity),
+                new NamingThreadFactory(new DaemonThreadFactory(), "xUnit checks publisher"));
+        this.executor.allowCoreThreadTimeOut(true);
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+    }
+
+    static ChecksPublishingQueue get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Queues the publication of the given checks.
+     *
+     * @param build the build of the checks
+     * @param publisher creates the publisher of the build that logs to the
+     *        given listener
+     * @param details the checks to publish
+     * @return {@code false} if the queue is full, the caller should publish
+     *         the checks by itself
+     */
+    boolean submit(@NonNull Run<?, ?> build, @NonNull Function<TaskListener, ChecksPublisher> publisher, @NonNull ChecksDetails details) {
+        String name = details.getName().orElse(XUnitDefaultValues.DEFAULT_CHECKS_NAME);
+        Publication publication = builds.computeIfAbsent(build, BuildPublications::new).get(name);
+        synchronized (publication) {
+            publication.publisher = publisher;
+            publication.next = details;
+            if (publication.scheduled) {
+                return true;
+            }
+            try {
+                executor.execute(publication);
+                publication.scheduled = true;
+                return true;
+            } catch (RejectedExecutionException e) {
+                publication.next = null;
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Prints in the build log the publications that failed, or that are not
+     * yet completed, and forgets them.
+     *
+     * @param build the completed build
+     * @param listener the listener of the build
+     */
+    void report(@NonNull Run<?, ?> build, @NonNull TaskListener listener) {
+        BuildPublications publications = builds.remove(build);
+        if (publications == null) {
+            return;
+        }
+        for (Map.Entry<String, String> output : publications.drainOutputs().entrySet()) {
+            listener.getLogger().println(Messages.xUnitProcessor_checksPublishingOutput(output.getKey()));
+            listener.getLogger().print(output.getValue());
+        }
+        for (String failure : publications.drainFailures()) {
+            listener.error(failure);
+        }
+        int pending = publications.countPending();
+        if (pending > 0) {
+            listener.getLogger().println(Messages.xUnitProcessor_checksPublishingPending(pending));
+        }
+    }
+
+    /**
+     * Returns the number of publications of the given build that are queued
+     * or running.
+     *
+     * @param build the build of the checks
+     * @return the publications not yet completed
+     */
+    int countPending(@NonNull Run<?, ?> build) {
+        BuildPublications publications = builds.get(build);
+        return publications == null ? 0 : publications.countPending();
+    }
+
+    private void failed(Run<?, ?> build, String name, int attempts, Exception cause) {
+        String message = Messages.xUnitProcessor_checksPublishingFailed(name, attempts, cause.getMessage());
+        BuildPublications publications = builds.get(build);
+        if (publications != null) {
+            publications.addFailure(message);
+        } else {
+            // build already completed
+            LOGGER.log(Level.WARNING, message, cause);
+        }
+    }
+
+    private final class BuildPublications {
+        private final Run<?, ?> build;
+        private final Map<String, Publication> publications = new ConcurrentHashMap<>();
+        private final List<String> failures = new ArrayList<>();
+
+        BuildPublications(Run<?, ?> build) {
+            this.build = build;
+        }
+
+        Publication get(String name) {
+            return publications.computeIfAbsent(name, n -> new Publication(build, n));
+        }
+
+        synchronized void addFailure(String message) {
+            failures.add(message);
+        }
+
+        synchronized List<String> drainFailures() {
+            List<String> result = new ArrayList<>(failures);
+            failures.clear();
+            return result;
+        }
+
+        Map<String, String> drainOutputs() {
+            Map<String, String> outputs = new LinkedHashMap<>();
+            for (Publication publication : publications.values()) {
+                synchronized (publication) {
+                    if (publication.output != null && !publication.output.isEmpty()) {
+                        outputs.put(publication.name, publication.output);
+                    }
+                    publication.output = null;
+                }
+            }
+            return outputs;
+        }
+
+        int countPending() {
+            int pending = 0;
+            for (Publication publication : publications.values()) {
+                synchronized (publication) {
+                    if (publication.scheduled) {
+                        pending++;
+                    }
+                }
+            }
+            return pending;
+        }
+    }
+
+    /*
+     * At most one task of a publication is queued or running, checks
+     * submitted meanwhile are published by the same task once the current
+     * ones are sent.
+     */
+    private final class Publication implements Runnable {
+        private final Run<?, ?> build;
+        private final String name;
+        // guarded by this
+        private Function<TaskListener, ChecksPublisher> publisher;
+        @CheckForNull
+        private ChecksDetails next;
+        @CheckForNull
+        private String output;
+        private boolean scheduled;
+        private int attempts;
+
+        Publication(Run<?, ?> build, String name) {
+            this.build = build;
+            this.name = name;
+        }
+
+        @Override
+        public void run() {
+            Function<TaskListener, ChecksPublisher> current;
+            ChecksDetails details;
+            synchronized (this) {
+                current = publisher;
+                details = next;
+                next = null;
+            }
+            if (details != null) {
+                PublicationListener listener = new PublicationListener();
+                Exception failure = null;
+                try {
+                    current.apply(listener).publish(details);
+                } catch (RuntimeException e) {
+                    failure = e;
+                }
+                String log = listener.getOutput();
+                if (failure == null && listener.failed) {
+                    failure = new IOException(log.trim());
+                }
+                synchronized (this) {
+                    // errors are already part of the failure message
+                    output = failure == null ? log : null;
+                    if (failure == null) {
+                        attempts = 0;
+                    }
+                }
+                if (failure != null && retry(details, failure)) {
+                    return;
+                }
+            }
+            synchronized (this) {
+                if (next == null) {
+                    scheduled = false;
+                    return;
+                }
+            }
+            resubmit();
+        }
+
+        private boolean retry(ChecksDetails details, Exception cause) {
+            int attempt;
+            synchronized (this) {
+                attempt = ++attempts;
+                if (next != null) {
+                    // replaced by newer checks, no reason to send these again
+                    attempts = 0;
+                    return false;
+                }
+                if (attempt >= maxAttempts) {
+                    attempts = 0;
+                } else {
+                    next = details;
+                }
+            }
+            if (attempt >= maxAttempts) {
+                failed(build, name, attempt, cause);
+                return false;
+            }
+            LOGGER.log(Level.FINE, "Publishing checks " + name + " of " + build + " failed, retrying", cause);
+            Timer.get().schedule(this::resubmit, backoff << (attempt - 1), TimeUnit.MILLISECONDS);
+            return true;
+        }
+
+        private void resubmit() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                int attempt;
+                synchronized (this) {
+                    scheduled = false;
+                    next = null;
+                    attempt = Math.max(attempts, 1);
+                    attempts = 0;
+                }
+                failed(build, name, attempt, e);
+            }
+        }
+    }
+
+    /*
+     * Keeps in memory what a publisher logs and if it reported an error.
+     */
+    private static final class PublicationListener extends StreamTaskListener {
+        private static final long serialVersionUID = 1L;
+
+        private final transient ByteArrayOutputStream log;
+        private volatile boolean failed;
+
+        PublicationListener() {
+            this(new ByteArrayOutputStream());
+        }
+
+        private PublicationListener(ByteArrayOutputStream log) {
+            super(log, StandardCharsets.UTF_8);
+            this.log = log;
+        }
+
+        @NonNull
+        @Override
+        public PrintWriter error(String msg) {
+            failed = true;
+            return super.error(msg);
+        }
+
+        @NonNull
+        @Override
+        public PrintWriter fatalError(String msg) {
+            failed = true;
+            return super.fatalError(msg);
+        }
+
+        String getOutput() {
+            getLogger().flush();
+            return log.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Reports the publications of a build once it is over.
+     */
+    @Extension
+    public static class ReportOnCompletion extends RunListener<Run<?, ?>> {
+        @Override
+        public void onCompleted(Run<?, ?> run, @NonNull TaskListener listener) {
+            get().report(run, listener);
+        }
+    }
+
+}
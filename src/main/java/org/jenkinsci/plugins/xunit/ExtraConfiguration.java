@@ -24,6 +24,7 @@
 package org.jenkinsci.plugins.xunit;
 
 import static org.jenkinsci.plugins.xunit.XUnitDefaultValues.FOLLOW_SYMLINK;
+import static org.jenkinsci.plugins.xunit.XUnitDefaultValues.PROCESSING_PARALLELISM;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -40,11 +41,12 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  */
 public class ExtraConfiguration implements Serializable {
 
-    static class ExtraConfigurationBuilder {
+    public static class ExtraConfigurationBuilder {
         private ExtraConfiguration configuration;
 
         public ExtraConfigurationBuilder(ExtraConfiguration configuration) {
             this.configuration = new ExtraConfiguration(configuration.testTimeMargin, configuration.reduceLog, configuration.sleepTime, configuration.followSymlink, configuration.skipPublishingChecks, configuration.checksName);
+            this.configuration.parallelism = configuration.parallelism;
         }
 
         public ExtraConfigurationBuilder testTimeMargin(long testTimeMargin) {
@@ -77,6 +79,11 @@ public class ExtraConfiguration implements Serializable {
             return this;
         }
 
+        public ExtraConfigurationBuilder parallelism(int parallelism) {
+            configuration.parallelism = parallelism;
+            return this;
+        }
+
         public ExtraConfiguration build() {
             return configuration;
         }
@@ -97,8 +104,9 @@ public class ExtraConfiguration implements Serializable {
 
     @Nullable
     private String checksName;
+    private int parallelism = PROCESSING_PARALLELISM;
 
-    static ExtraConfigurationBuilder withConfiguration(ExtraConfiguration configuration) {
+    public static ExtraConfigurationBuilder withConfiguration(ExtraConfiguration configuration) {
         return new ExtraConfigurationBuilder(configuration);
     }
 
@@ -141,6 +149,15 @@ public class ExtraConfiguration implements Serializable {
         return checksName;
     }
 
+    /**
+     * Maximum number of reports converted at the same time on the node.
+     *
+     * @return the number of conversion workers, 1 means sequential processing
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
     /**
      * Migrate old data
      *
@@ -155,6 +172,9 @@ public class ExtraConfiguration implements Serializable {
         if (followSymlink == null) {
             followSymlink = FOLLOW_SYMLINK;
         }
+        if (parallelism < 1) {
+            parallelism = PROCESSING_PARALLELISM;
+        }
         return this;
     }
 }
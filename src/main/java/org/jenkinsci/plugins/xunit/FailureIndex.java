@@ -0,0 +1,206 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jenkinsci.plugins.xunit.threshold.FailureDelta;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Run;
+import hudson.tasks.junit.CaseResult;
+import hudson.tasks.junit.TestResult;
+
+/**
+ * Keeps the failed tests of a build as the sorted 64-bit hashes of their
+ * names in a file next to the build, so that the failures of two builds are
+ * compared in linear time without loading their test results.
+ *
+ * @author Nikolas Falco
+ */
+final class FailureIndex {
+
+    static final String FILE_NAME = "xunit-failures.idx";
+
+    private static final int VERSION = 1;
+
+    private FailureIndex() {
+    }
+
+    /**
+     * Returns the hashes of the failed tests of the given result.
+     *
+     * @param result a counted test result
+     * @return sorted and distinct hashes of the failed tests
+     */
+    @NonNull
+    static long[] hash(@NonNull TestResult result) {
+        List<CaseResult> failedTests = result.getFailedTests();
+        long[] hashes = new long[failedTests.size()];
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = hash(failedTests.get(i).getFullName());
+        }
+        Arrays.sort(hashes);
+        return distinct(hashes);
+    }
+
+    /*
+     * 64-bit FNV-1a followed by a final mix so that similar names spread over
+     * the whole range.
+     */
+    static long hash(@NonNull String testName) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < testName.length(); i++) {
+            hash ^= testName.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Reads the index of the given build.
+     *
+     * @param build the build
+     * @return the sorted hashes of the failed tests or {@code null} if the
+     *         build has no index
+     * @throws IOException if the index could not be read
+     */
+    @CheckForNull
+    static long[] read(@NonNull Run<?, ?> build) throws IOException {
+        File file = new File(build.getRootDir(), FILE_NAME);
+        if (!file.isFile()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            int version = in.readInt();
+            if (version != VERSION) {
+                return null;
+            }
+            long[] hashes = new long[in.readInt()];
+            for (int i = 0; i < hashes.length; i++) {
+                hashes[i] = in.readLong();
+            }
+            return hashes;
+        }
+    }
+
+    /**
+     * Adds the given failures to the index of the build.
+     *
+     * @param build the build
+     * @param hashes sorted and distinct hashes of failed tests
+     * @throws IOException if the index could not be read or written
+     */
+    static void append(@NonNull Run<?, ?> build, @NonNull long[] hashes) throws IOException {
+        long[] recorded = read(build);
+        write(build, recorded != null ? union(recorded, hashes) : hashes);
+    }
+
+    private static void write(Run<?, ?> build, long[] hashes) throws IOException {
+        Path file = new File(build.getRootDir(), FILE_NAME).toPath();
+        Path tmp = Files.createTempFile(file.getParent(), FILE_NAME, ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(VERSION);
+                out.writeInt(hashes.length);
+                for (long hash : hashes) {
+                    out.writeLong(hash);
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * Compares two sorted sets of hashes.
+     *
+     * @param current the failures of the current build
+     * @param previous the failures of the previous build
+     * @return how many failures are new and how many have been fixed
+     */
+    @NonNull
+    static FailureDelta compare(@NonNull long[] current, @NonNull long[] previous) {
+        int common = 0;
+        int i = 0;
+        int j = 0;
+        while (i < current.length && j < previous.length) {
+            if (current[i] == previous[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (current[i] < previous[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return new FailureDelta(current.length - common, previous.length - common);
+    }
+
+    static long[] union(long[] a, long[] b) {
+        long[] merged = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length || j < b.length) {
+            long next;
+            if (j >= b.length || (i < a.length && a[i] <= b[j])) {
+                next = a[i++];
+            } else {
+                next = b[j++];
+            }
+            if (k == 0 || merged[k - 1] != next) {
+                merged[k++] = next;
+            }
+        }
+        return k == merged.length ? merged : Arrays.copyOf(merged, k);
+    }
+
+    private static long[] distinct(long[] sorted) {
+        int k = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (k == 0 || sorted[k - 1] != sorted[i]) {
+                sorted[k++] = sorted[i];
+            }
+        }
+        return k == sorted.length ? sorted : Arrays.copyOf(sorted, k);
+    }
+
+}
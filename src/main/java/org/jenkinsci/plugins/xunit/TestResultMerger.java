@@ -0,0 +1,243 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.tasks.junit.TestResult;
+import hudson.tasks.junit.TestResultAction;
+
+/**
+ * Merges the results of concurrent xUnit steps of the same build in batches.
+ * <p>
+ * Each step queues its result and the first step that finds no merge in
+ * progress applies all the queued results at once, so the results are
+ * counted and the build is saved once per batch instead of once per step.
+ * The other steps wait for the batch that contains their result.
+ * <p>
+ * The build lock is held only to attach the action and the test data, the
+ * merge and the test data contributions run without it. A failure is
+ * reported only to the steps whose result or test data caused it.
+ *
+ * @author Nikolas Falco
+ */
+final class TestResultMerger {
+
+    /*
+     * Values must not refer the build, otherwise it could never be collected.
+     */
+    private static final Map<Run<?, ?>, TestResultMerger> MERGERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Collects the test data of a result once it refers the test result
+     * action of the build.
+     */
+    @FunctionalInterface
+    interface DataContributor {
+        @NonNull
+        List<TestResultAction.Data> contribute(@NonNull TestResult result) throws IOException, InterruptedException;
+    }
+
+    private static final class Pending {
+        private final TestResult result;
+        private final DataContributor contributor;
+        private final TaskListener listener;
+        private final CompletableFuture<Boolean> done = new CompletableFuture<>();
+
+        private Pending(TestResult result, DataContributor contributor, TaskListener listener) {
+            this.result = result;
+            this.contributor = contributor;
+            this.listener = listener;
+        }
+    }
+
+    private final Queue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean merging = new AtomicBoolean();
+
+    /**
+     * Returns the merger of results of the given build.
+     *
+     * @param build the build that collects the results
+     * @return the merger for the build
+     */
+    @NonNull
+    static TestResultMerger of(@NonNull Run<?, ?> build) {
+        return MERGERS.computeIfAbsent(build, b -> new TestResultMerger());
+    }
+
+    /**
+     * Merges the given result into the test result action of the build,
+     * creating the action if missing.
+     *
+     * @param build the build that collects the results
+     * @param result the result to merge
+     * @param contributor collects the test data of the result, called by
+     *        the step that applies the batch
+     * @param listener the build listener
+     * @return {@code true} if the result has been appended to results already
+     *         recorded
+     * @throws IOException if the build could not be saved
+     * @throws InterruptedException if interrupted while waiting for the merge
+     */
+    boolean merge(@NonNull Run<?, ?> build,
+                  @NonNull TestResult result,
+                  @NonNull DataContributor contributor,
+                  @NonNull TaskListener listener) throws IOException, InterruptedException {
+        Pending pending = new Pending(result, contributor, listener);
+        queue.add(pending);
+
+        // whoever releases the merge checks again the queue, so a result
+        // queued while another step was merging is never left behind
+        while (!queue.isEmpty() && merging.compareAndSet(false, true)) {
+            try {
+                drain(build);
+            } finally {
+                merging.set(false);
+            }
+        }
+
+        try {
+            return pending.done.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioe) {
+                throw ioe;
+            } else if (cause instanceof InterruptedException ie) {
+                throw ie;
+            } else if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private void drain(Run<?, ?> build) {
+        List<Pending> batch = new ArrayList<>();
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            batch.add(pending);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        TestResultAction action;
+        Pending creator = null;
+        try {
+            synchronized (build) { // NOSONAR
+                action = build.getAction(TestResultAction.class);
+                if (action == null) {
+                    creator = batch.get(0);
+                    action = new TestResultAction(build, creator.result, creator.listener);
+                    build.addAction(action);
+                }
+            }
+        } catch (RuntimeException | Error e) {
+            fail(batch, e);
+            return;
+        }
+
+        List<Pending> merged = new ArrayList<>(batch.size());
+        List<Pending> appended = creator == null ? batch : batch.subList(1, batch.size());
+        if (creator != null) {
+            merged.add(creator);
+        }
+        if (!appended.isEmpty()) {
+            try {
+                // each result refers the action as when it is appended alone
+                for (Pending p : appended) {
+                    p.result.freeze(action);
+                }
+                TestResult result = appended.get(0).result;
+                if (appended.size() > 1) {
+                    result = new TestResult();
+                    for (Pending p : appended) {
+                        result.merge(p.result);
+                    }
+                    result.freeze(action);
+                }
+                // the action guards its result by itself
+                action.mergeResult(result, appended.get(0).listener);
+                merged.addAll(appended);
+            } catch (RuntimeException | Error e) {
+                fail(appended, e);
+            }
+        }
+
+        // decorates reports with extra informations, a failure concerns only its step
+        boolean interrupted = false;
+        List<Pending> contributed = new ArrayList<>(merged.size());
+        List<TestResultAction.Data> data = new ArrayList<>();
+        for (Pending p : merged) {
+            try {
+                data.addAll(p.contributor.contribute(p.result));
+                contributed.add(p);
+            } catch (InterruptedException e) {
+                // the interrupt concerns only the step that is applying the batch
+                interrupted = true;
+                p.done.completeExceptionally(e);
+            } catch (IOException | RuntimeException | Error e) {
+                p.done.completeExceptionally(e);
+            }
+        }
+
+        try {
+            synchronized (build) { // NOSONAR
+                for (TestResultAction.Data d : data) {
+                    action.addData(d);
+                }
+                BuildSaver.save(build);
+            }
+            for (Pending p : contributed) {
+                p.done.complete(p != creator);
+            }
+        } catch (IOException | RuntimeException | Error e) {
+            fail(contributed, e);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void fail(List<Pending> pendings, Throwable cause) {
+        for (Pending p : pendings) {
+            p.done.completeExceptionally(cause);
+        }
+    }
+
+}
@@ -23,6 +23,7 @@
  */
 package org.jenkinsci.plugins.xunit;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import hudson.model.Result;
 import hudson.model.Run;
@@ -30,16 +31,17 @@ import hudson.model.TaskListener;
 import hudson.tasks.junit.CaseResult;
 import hudson.tasks.junit.TestResult;
 import hudson.tasks.junit.TestResultSummary;
+import hudson.util.LogTaskListener;
 import io.jenkins.plugins.checks.api.ChecksConclusion;
 import io.jenkins.plugins.checks.api.ChecksDetails;
 import io.jenkins.plugins.checks.api.ChecksOutput;
 import io.jenkins.plugins.checks.api.ChecksPublisher;
 import io.jenkins.plugins.checks.api.ChecksPublisherFactory;
 import io.jenkins.plugins.checks.api.ChecksStatus;
-import org.apache.commons.lang.StringUtils;
 import org.jenkinsci.plugins.displayurlapi.DisplayURLProvider;
 
-import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Publishes test status to Checks API
@@ -47,10 +49,15 @@ import java.util.List;
  * https://github.com/jenkinsci/junit-plugin/blob/dd65de93befc357d7160251536c903914dd257c6/src/main/java/io/jenkins/plugins/junit/checks/JUnitChecksPublisher.java
  */
 class XUnitChecksPublisher {
+    private static final Logger LOGGER = Logger.getLogger(XUnitChecksPublisher.class.getName());
+
     public static final String SEPARATOR = ", ";
 
     // cap to avoid hitting check API message limit
     private static final int MAX_MSG_SIZE_TO_CHECKS_API = 65535;
+    // cap of error details, stack trace and output of a single test
+    private static final int MAX_SECTION_SIZE = 4096;
+    private static final String TRUNCATED_MARKER = "\n... (truncated)";
 
     private final Run<?, ?> run;
 
@@ -79,6 +86,109 @@ class XUnitChecksPublisher {
         publisher.publish(extractChecksDetails());
     }
 
+    /**
+     * Queues the checks to be published in background, the build log could be
+     * closed meanwhile so what the publisher logs is printed in the build log
+     * when the build completes.
+     */
+    public void publishChecksAsync() {
+        publishAsync(run, extractChecksDetails());
+    }
+
+    /**
+     * Publishes the checks of a processing still running with the totals of
+     * the tools processed so far.
+     *
+     * @param run the build
+     * @param checksName the name of the checks
+     * @param processedTools the number of tools processed so far
+     * @param totalTools the number of tools to process
+     * @param processedReports the number of reports converted so far
+     * @param summary the running totals, if known
+     * @param listener the build listener
+     * @param async if publish the checks in background
+     */
+    static void publishProgress(final Run<?, ?> run, @NonNull final String checksName,
+                                int processedTools, int totalTools, int processedReports,
+                                @CheckForNull TestResultSummary summary, TaskListener listener, boolean async) {
+        ChecksDetails details = extractProgressDetails(run, checksName, processedTools, totalTools, processedReports, summary);
+        if (async) {
+            publishAsync(run, details);
+        } else {
+            ChecksPublisherFactory.fromRun(run, listener).publish(details);
+        }
+    }
+
+    static ChecksDetails extractProgressDetails(final Run<?, ?> run, @NonNull final String checksName,
+                                                int processedTools, int totalTools, int processedReports,
+                                                @CheckForNull TestResultSummary summary) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("processed tools: ").append(processedTools).append(" of ").append(totalTools);
+        if (summary != null) {
+            builder.append(SEPARATOR);
+            appendSummary(builder, summary);
+        } else if (processedReports > 0) {
+            builder.append(SEPARATOR);
+            builder.append("converted reports: ").append(processedReports);
+        }
+
+        String title = summary != null && summary.getFailCount() > 0 ? "There were test failures" : "Processing test results";
+        ChecksOutput output = new ChecksOutput.ChecksOutputBuilder()
+                .withTitle(title)
+                .withSummary(builder.toString())
+                .build();
+
+        return new ChecksDetails.ChecksDetailsBuilder()
+                .withName(checksName)
+                .withStatus(ChecksStatus.IN_PROGRESS)
+                .withDetailsURL(DisplayURLProvider.get().getTestsURL(run))
+                .withOutput(output)
+                .build();
+    }
+
+    /**
+     * Completes the checks published in progress when the processing fails
+     * before any result is recorded.
+     *
+     * @param run the build
+     * @param checksName the name of the checks
+     * @param cause the failure of the processing
+     * @param listener the build listener
+     * @param async if publish the checks in background
+     */
+    static void publishFailure(final Run<?, ?> run, @NonNull final String checksName, @NonNull Throwable cause,
+                               TaskListener listener, boolean async) {
+        ChecksDetails details = extractFailureDetails(run, checksName, cause);
+        if (async) {
+            publishAsync(run, details);
+        } else {
+            ChecksPublisherFactory.fromRun(run, listener).publish(details);
+        }
+    }
+
+    static ChecksDetails extractFailureDetails(final Run<?, ?> run, @NonNull final String checksName, @NonNull Throwable cause) {
+        String message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName();
+        ChecksOutput output = new ChecksOutput.ChecksOutputBuilder()
+                .withTitle("Processing test results failed")
+                .withSummary(message)
+                .build();
+
+        return new ChecksDetails.ChecksDetailsBuilder()
+                .withName(checksName)
+                .withStatus(ChecksStatus.COMPLETED)
+                .withConclusion(ChecksConclusion.FAILURE)
+                .withDetailsURL(DisplayURLProvider.get().getTestsURL(run))
+                .withOutput(output)
+                .build();
+    }
+
+    private static void publishAsync(final Run<?, ?> run, ChecksDetails details) {
+        if (!ChecksPublishingQueue.get().submit(run, listener -> ChecksPublisherFactory.fromRun(run, listener), details)) {
+            // queue is full
+            ChecksPublisherFactory.fromRun(run, new LogTaskListener(LOGGER, Level.INFO)).publish(details);
+        }
+    }
+
     ChecksDetails extractChecksDetails() {
         String testsURL = DisplayURLProvider.get().getTestsURL(run);
         ChecksOutput output = new ChecksOutput.ChecksOutputBuilder()
@@ -96,16 +206,17 @@ class XUnitChecksPublisher {
                 .build();
     }
 
-    private String extractChecksText(String testsURL) {
+    String extractChecksText(String testsURL) {
         StringBuilder builder = new StringBuilder();
         if (summary.getFailCount() > 0) {
-            List<CaseResult> failedTests = result.getFailedTests();
-
-            for (CaseResult failedTest: failedTests) {
-                String testReport = mapFailedTestToTestReport(failedTest);
-                int messageSize = testReport.length() + builder.toString().length();
-                // to ensure text size is withing check API message limit
-                if (messageSize > (MAX_MSG_SIZE_TO_CHECKS_API - 1024)){
+            // to ensure text size is withing check API message limit
+            int budget = MAX_MSG_SIZE_TO_CHECKS_API - 1024;
+            StringBuilder testReport = new StringBuilder();
+
+            for (CaseResult failedTest : result.getFailedTests()) {
+                testReport.setLength(0);
+                mapFailedTestToTestReport(failedTest, testReport, budget - builder.length());
+                if (builder.length() + testReport.length() > budget) {
                     builder.append("\n")
                             .append("more test results are not shown here, view them on [Jenkins](")
                             .append(testsURL).append(")");
@@ -118,38 +229,59 @@ class XUnitChecksPublisher {
         return builder.toString();
     }
 
-    private String mapFailedTestToTestReport(CaseResult failedTest) {
-        StringBuilder builder = new StringBuilder();
+    /**
+     * Renders the report of a failed test, each section is truncated to
+     * {@link #MAX_SECTION_SIZE} and the rendering stops as soon as the given
+     * limit is exceeded, the caller discards the report in that case.
+     */
+    private void mapFailedTestToTestReport(CaseResult failedTest, StringBuilder builder, int limit) {
         builder.append("## `").append(failedTest.getTransformedFullDisplayName().trim()).append("`")
                 .append("\n");
 
-        if (StringUtils.isNotBlank(failedTest.getErrorDetails())) {
-            builder.append(codeTextFencedBlock(failedTest.getErrorDetails()))
-                    .append("\n");
+        if (builder.length() < limit) {
+            codeTextFencedBlock(builder, failedTest.getErrorDetails(), null, limit);
         }
-        if (StringUtils.isNotBlank(failedTest.getErrorStackTrace())) {
-            builder.append("<details><summary>Stack trace</summary>\n")
-                    .append(codeTextFencedBlock(failedTest.getErrorStackTrace()))
-                    .append("</details>\n");
+        if (builder.length() < limit) {
+            codeTextFencedBlock(builder, failedTest.getErrorStackTrace(), "Stack trace", limit);
         }
-
-        if (StringUtils.isNotBlank(failedTest.getStderr())) {
-            builder.append("<details><summary>Standard error</summary>\n")
-                    .append(codeTextFencedBlock(failedTest.getStderr()))
-                    .append("</details>\n");
+        if (builder.length() < limit) {
+            codeTextFencedBlock(builder, failedTest.getStderr(), "Standard error", limit);
         }
-
-        if (StringUtils.isNotBlank(failedTest.getStdout())) {
-            builder.append("<details><summary>Standard out</summary>\n")
-                    .append(codeTextFencedBlock(failedTest.getStdout()))
-                    .append("</details>\n");
+        if (builder.length() < limit) {
+            codeTextFencedBlock(builder, failedTest.getStdout(), "Standard out", limit);
         }
         builder.append("\n");
-        return builder.toString();
     }
 
-    private String codeTextFencedBlock(String body) {
-        return "\n```text\n" + body.trim() + "\n```\n";
+    private void codeTextFencedBlock(StringBuilder builder, String body, String summary, int limit) {
+        if (body == null) {
+            return;
+        }
+        // same bounds of String#trim without copy the whole content
+        int start = 0;
+        int end = body.length();
+        while (start < end && body.charAt(start) <= ' ') {
+            start++;
+        }
+        while (start < end && body.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return;
+        }
+
+        if (summary != null) {
+            builder.append("<details><summary>").append(summary).append("</summary>\n");
+        }
+        builder.append("\n```text\n");
+        int size = Math.min(MAX_SECTION_SIZE, Math.max(0, limit - builder.length()));
+        if (end - start > size) {
+            builder.append(body, start, start + size).append(TRUNCATED_MARKER);
+        } else {
+            builder.append(body, start, end);
+        }
+        builder.append("\n```\n");
+        builder.append(summary != null ? "</details>\n" : "\n");
     }
 
     private String extractChecksTitle() {
@@ -175,9 +307,12 @@ class XUnitChecksPublisher {
     }
 
     private String extractChecksSummary() {
-
         StringBuilder builder = new StringBuilder();
+        appendSummary(builder, summary);
+        return builder.toString();
+    }
 
+    private static void appendSummary(StringBuilder builder, TestResultSummary summary) {
         // Total count
         builder.append("total: ").append(summary.getTotalCount());
         // Failed count
@@ -195,8 +330,6 @@ class XUnitChecksPublisher {
             builder.append(SEPARATOR);
             builder.append("passed: ").append(summary.getPassCount());
         }
-
-        return builder.toString();
     }
 
     private ChecksConclusion mapBuildResultToConclusion() {
@@ -34,6 +34,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.collections.iterators.ReverseListIterator;
 import org.apache.commons.io.FileUtils;
@@ -44,23 +45,36 @@ import org.apache.tools.ant.types.FileSet;
 import org.jenkinsci.lib.dtkit.model.InputMetric;
 import org.jenkinsci.lib.dtkit.model.InputMetricXSL;
 import org.jenkinsci.lib.dtkit.type.TestType;
+import org.jenkinsci.plugins.xunit.jfr.ChecksPublishingEvent;
+import org.jenkinsci.plugins.xunit.jfr.ResultMergeEvent;
+import org.jenkinsci.plugins.xunit.jfr.ResultParsingEvent;
+import org.jenkinsci.plugins.xunit.jfr.XUnitEvent;
 import org.jenkinsci.plugins.xunit.service.NoTestFoundException;
+import org.jenkinsci.plugins.xunit.service.PhaseTimings;
+import org.jenkinsci.plugins.xunit.service.XUnitAggregatedCallable;
 import org.jenkinsci.plugins.xunit.service.TransformerException;
 import org.jenkinsci.plugins.xunit.service.XUnitConversionService;
+import org.jenkinsci.plugins.xunit.service.XUnitDirectResultCallable;
+import org.jenkinsci.plugins.xunit.service.XUnitBufferedLogCallable;
 import org.jenkinsci.plugins.xunit.service.XUnitLog;
 import org.jenkinsci.plugins.xunit.service.XUnitReportProcessorService;
+import org.jenkinsci.plugins.xunit.service.XUnitTimedCallable;
 import org.jenkinsci.plugins.xunit.service.XUnitToolInfo;
 import org.jenkinsci.plugins.xunit.service.XUnitTransformerCallable;
 import org.jenkinsci.plugins.xunit.service.XUnitValidationService;
+import org.jenkinsci.plugins.xunit.threshold.FailureDelta;
 import org.jenkinsci.plugins.xunit.threshold.XUnitThreshold;
 import org.jenkinsci.plugins.xunit.types.CustomType;
+import org.jenkinsci.plugins.xunit.util.DownloadableResourceCache;
 import org.jenkinsci.plugins.xunit.util.DownloadableResourceUtil;
 import org.kohsuke.accmod.Restricted;
 import org.kohsuke.accmod.restrictions.NoExternalUse;
 
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import hudson.FilePath;
+import hudson.FilePath.FileCallable;
 import hudson.Functions;
 import hudson.Launcher;
 import hudson.Util;
@@ -74,6 +88,7 @@ import hudson.tasks.junit.TestResultAction;
 import hudson.tasks.junit.TestResultSummary;
 import hudson.tasks.test.PipelineTestDetails;
 import jenkins.model.Jenkins;
+import jenkins.util.SystemProperties;
 
 /**
  * @author Gregory Boissinot
@@ -96,23 +111,41 @@ public class XUnitProcessor {
         private final String processorId;
         private final boolean reduceLog;
         private final PipelineTestDetails pipelineTestDetails;
+        private final boolean passthrough;
 
         public ReportParserCallable(long buildTime,
                                     @NonNull String junitFilePattern,
                                     long nowMaster,
                                     String processorId,
                                     boolean reduceLog,
-                                    PipelineTestDetails pipelineTestDetails) {
+                                    PipelineTestDetails pipelineTestDetails,
+                                    boolean passthrough) {
             this.buildTime = buildTime;
             this.junitFilePattern = junitFilePattern;
             this.nowMaster = nowMaster;
             this.processorId = processorId;
             this.reduceLog = reduceLog;
             this.pipelineTestDetails = pipelineTestDetails;
+            this.passthrough = passthrough;
         }
 
         @Override
         public TestResult invoke(File ws, VirtualChannel channel) throws IOException {
+            ResultParsingEvent event = new ResultParsingEvent();
+            event.begin();
+            TestResult result = parse(ws);
+            if (event.shouldCommit()) {
+                if (result != null) {
+                    result.tally();
+                    event.setTestCount(result.getTotalCount());
+                }
+                event.setOutcome(result != null ? XUnitEvent.SUCCESS : XUnitEvent.SKIPPED);
+                event.commit();
+            }
+            return result;
+        }
+
+        private TestResult parse(File ws) throws IOException {
             final long nowSlave = System.currentTimeMillis();
             File generatedJUnitDir = new File(new File(ws, XUnitDefaultValues.GENERATED_JUNIT_DIR), processorId);
             FileUtils.forceMkdir(generatedJUnitDir);
@@ -125,10 +158,173 @@ public class XUnitProcessor {
                 return null;
 
             }
+            if (passthrough) {
+                // linked reports keep the timestamp of the original report,
+                // all reports in this folder have been already checked
+                List<File> reports = new ArrayList<>();
+                for (String report : ds.getIncludedFiles()) {
+                    reports.add(new File(generatedJUnitDir, report));
+                }
+                TestResult result = new TestResult(!reduceLog);
+                result.parse(buildTime + (nowSlave - nowMaster), reports, pipelineTestDetails);
+                return result;
+            }
             return new TestResult(buildTime + (nowSlave - nowMaster), ds, !reduceLog, pipelineTestDetails);
         }
     }
 
+    /**
+     * Validates and converts each report reading it only once, for metrics
+     * that support it.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean PIPELINED_CONVERSION = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".pipelinedConversion");
+
+    /**
+     * Hard links JUnit reports into the output folder instead of copy them.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean JUNIT_PASSTHROUGH = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".junitPassthrough");
+
+    /**
+     * Converts reports with the stylesheets of the built-in tools compiled
+     * once per node instead of once per report.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean TEMPLATES_CACHE = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".templatesCache");
+
+    /**
+     * Validates reports with the XSD schemas compiled once per node instead
+     * of once per report.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean SCHEMA_CACHE = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".schemaCache");
+
+    /**
+     * Parses converted reports on the node that converts them, without write
+     * them in the workspace, when no tool keeps the generated JUnit reports.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean DIRECT_RESULTS = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".directResults");
+
+    /**
+     * Converts, parses and removes reports of all tools with a single call to
+     * the node that owns the workspace.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean AGGREGATED_CALL = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".aggregatedCall");
+
+    /**
+     * Maximum size in megabytes of the node cache of converted reports, 0
+     * disables the cache.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static int CONVERSION_CACHE_SIZE = SystemProperties.getInteger(XUnitProcessor.class.getName() + ".conversionCacheSize", 0);
+
+    /**
+     * Finds reports walking the workspace in parallel and skipping folders
+     * that could not contain any report.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean PARALLEL_SCAN = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".parallelScan");
+
+    /**
+     * Finds the reports of all tools walking the workspace only once, when
+     * all tools are processed with a single call.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean SHARED_SCAN = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".sharedScan");
+
+    /**
+     * Maximum load per processor that other processes put on the node, in
+     * percent, while reports are converted. When exceeded the conversion is
+     * paused, 0 uses the fixed sleep time instead.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static int MAX_LOAD_PERCENT = SystemProperties.getInteger(XUnitProcessor.class.getName() + ".maxLoadPercent", 0);
+
+    /**
+     * Measures each processing phase and stores the timings in the build.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean PHASE_TIMING = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".phaseTiming");
+
+    /**
+     * Sends the messages logged on an agent to the build console in batches.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean BUFFERED_LOG = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".bufferedLog");
+
+    /**
+     * Merges the results of concurrent steps of the same build in batches,
+     * applied by one of them.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean BATCHED_MERGE = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".batchedMerge");
+
+    /**
+     * Milliseconds during which the saves of the build requested by steps
+     * that append results are coalesced into one, 0 saves immediately.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static long SAVE_QUIET_PERIOD = SystemProperties.getLong(XUnitProcessor.class.getName() + ".saveQuietPeriod", 0L);
+
+    /**
+     * Records the failed tests of each build in an index so that thresholds
+     * count exactly the new failures compared to the previous build.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean FAILURE_INDEX = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".failureIndex");
+
+    /**
+     * Publishes checks in background with retries, failed publications are
+     * reported in the build log when the build completes.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean ASYNC_CHECKS = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".asyncChecks");
+
+    /**
+     * Publishes in progress checks when processing starts and updates them
+     * each time a tool is processed. Running totals are known only with
+     * direct results or an aggregated call, otherwise the checks report the
+     * number of converted reports.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean LIVE_CHECKS = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".liveChecks");
+
+    /**
+     * Keeps the custom stylesheets downloaded from an URL in JENKINS_HOME and
+     * downloads them again only when changed.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static boolean STYLESHEET_CACHE = SystemProperties.getBoolean(XUnitProcessor.class.getName() + ".stylesheetCache");
+
+    /**
+     * Milliseconds since the last successful check during which a cached
+     * stylesheet is used when its server is not available.
+     */
+    @Restricted(NoExternalUse.class)
+    @SuppressFBWarnings(value = "MS_SHOULD_BE_FINAL", justification = "tunable from the script console")
+    public static long STYLESHEET_MAX_STALE = SystemProperties.getLong(XUnitProcessor.class.getName() + ".stylesheetMaxStale", TimeUnit.DAYS.toMillis(1));
+
     private final TestResultSummary emptySummary = new TestResultSummary(0, 0, 0, 0);
     private final TestType[] tools;
     private final XUnitThreshold[] thresholds;
@@ -136,6 +332,9 @@ public class XUnitProcessor {
     private final ExtraConfiguration extraConfiguration;
     private final String processorId;
     private XUnitLog logger;
+    private PhaseTimings timings;
+    private long[] failedTests;
+    private String liveChecksName;
 
     public XUnitProcessor(@NonNull TestType[] tools,
                           @CheckForNull XUnitThreshold[] thresholds,
@@ -159,16 +358,70 @@ public class XUnitProcessor {
             throws IOException, InterruptedException {
 
         logger = new XUnitLog(listener);
-
-        int processedReports = processTestsReport(build, workspace, listener);
-        if (processedReports == 0) {
-            return new XUnitProcessorResult(emptySummary, new TestResult());
+        timings = PHASE_TIMING ? new PhaseTimings() : null;
+        if (LIVE_CHECKS && !extraConfiguration.isSkipPublishingChecks()) {
+            liveChecksName = getChecksName(pipelineTestDetails);
+            publishProgress(build, listener, 0, 0, null);
         }
 
-        XUnitProcessorResult result = recordTestResult(build, workspace, listener, launcher, testDataPublishers, pipelineTestDetails);
-        processDeletion(workspace);
+        try {
+            if (AGGREGATED_CALL) {
+                TestResult result = processTestsReportAggregated(build, workspace, listener, pipelineTestDetails).getTestResult();
+                if (result == null) {
+                    return new XUnitProcessorResult(emptySummary, new TestResult());
+                }
+                return recordTestResult(build, workspace, listener, launcher, testDataPublishers, result);
+            }
 
-        return result;
+            if (isDirectResults()) {
+                List<TestResult> results = new ArrayList<>();
+                processTestsReport(build, workspace, listener, pipelineTestDetails, results);
+                if (results.isEmpty()) {
+                    return new XUnitProcessorResult(emptySummary, new TestResult());
+                }
+
+                TestResult result = results.get(0);
+                for (TestResult toolResult : results.subList(1, results.size())) {
+                    result.merge(toolResult);
+                }
+                return recordTestResult(build, workspace, listener, launcher, testDataPublishers, result);
+            }
+
+            int processedReports = processTestsReport(build, workspace, listener, pipelineTestDetails, null);
+            if (processedReports == 0) {
+                return new XUnitProcessorResult(emptySummary, new TestResult());
+            }
+
+            final long buildTime = build.getTimestamp().getTimeInMillis();
+            final long nowMaster = System.currentTimeMillis();
+            TestResult testResult = getTestResult(workspace, "**/TEST-*.xml", buildTime, nowMaster, pipelineTestDetails);
+            XUnitProcessorResult result = recordTestResult(build, workspace, listener, launcher, testDataPublishers, testResult);
+            processDeletion(workspace);
+
+            return result;
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            // no final checks will be published for a failed processing
+            publishFailure(build, listener, e);
+            throw e;
+        } finally {
+            storeTimings(build);
+        }
+    }
+
+    /*
+     * Generated JUnit reports are never written in the workspace so direct
+     * results could be used only when no tool keeps them.
+     */
+    private boolean isDirectResults() {
+        if (!DIRECT_RESULTS) {
+            return false;
+        }
+        for (TestType tool : tools) {
+            if (!tool.isDeleteOutputFiles()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public void publishChecks(Run<?, ?> build, @NonNull final XUnitProcessorResult result, @NonNull final Result buildResult,
@@ -177,6 +430,38 @@ public class XUnitProcessor {
             return;
         }
 
+        String checksName = getChecksName(pipelineTestDetails);
+
+        PhaseTimings.Sample sample = PhaseTimings.start();
+        ChecksPublishingEvent event = new ChecksPublishingEvent();
+        event.begin();
+        String outcome = XUnitEvent.FAILURE;
+        try {
+            XUnitChecksPublisher publisher = new XUnitChecksPublisher(build, checksName, result, buildResult);
+            if (ASYNC_CHECKS) {
+                publisher.publishChecksAsync();
+            } else {
+                publisher.publishChecks(listener);
+            }
+            outcome = XUnitEvent.SUCCESS;
+        } catch (Exception x) {
+            Functions.printStackTrace(x, listener.error("Publishing XUnit checks failed:"));
+        } finally {
+            if (event.shouldCommit()) {
+                event.setChecksName(checksName);
+                event.setTestCount(result.getTestResultSummary().getTotalCount());
+                event.setOutcome(outcome);
+                event.commit();
+            }
+            if (timings != null) {
+                timings.stop(sample, null, PhaseTimings.Phase.CHECKS);
+                storeTimings(build);
+            }
+        }
+    }
+
+    @NonNull
+    private String getChecksName(@CheckForNull PipelineTestDetails pipelineTestDetails) {
         // If we haven't been provided with a checks name, and we have pipeline test details, set the checks name
         // to be a ' / '-joined string of the enclosing blocks names, plus 'Tests' at the start. If there are no
         // enclosing blocks, you'll end up with just 'Tests'.
@@ -191,8 +476,31 @@ public class XUnitProcessor {
             checksName = XUnitDefaultValues.DEFAULT_CHECKS_NAME;
         }
 
+        return checksName;
+    }
+
+    /*
+     * Live checks are a best effort, a failure must not stop the processing
+     * and the final checks are published anyway.
+     */
+    private void publishProgress(Run<?, ?> build, TaskListener listener, int processedTools, int processedReports,
+                                 @CheckForNull TestResultSummary summary) {
+        if (liveChecksName == null) {
+            return;
+        }
+        try {
+            XUnitChecksPublisher.publishProgress(build, liveChecksName, processedTools, tools.length, processedReports, summary, listener, ASYNC_CHECKS);
+        } catch (Exception x) {
+            Functions.printStackTrace(x, listener.error("Publishing XUnit checks failed:"));
+        }
+    }
+
+    private void publishFailure(Run<?, ?> build, TaskListener listener, Throwable cause) {
+        if (liveChecksName == null) {
+            return;
+        }
         try {
-            new XUnitChecksPublisher(build, checksName, result, buildResult).publishChecks(listener);
+            XUnitChecksPublisher.publishFailure(build, liveChecksName, cause, listener, ASYNC_CHECKS);
         } catch (Exception x) {
             Functions.printStackTrace(x, listener.error("Publishing XUnit checks failed:"));
         }
@@ -200,18 +508,42 @@ public class XUnitProcessor {
 
     private int processTestsReport(Run<?, ?> build,
                                        FilePath workspace,
-                                       TaskListener listener) throws IOException, InterruptedException {
+                                       TaskListener listener,
+                                       PipelineTestDetails pipelineTestDetails,
+                                       @CheckForNull List<TestResult> results) throws IOException, InterruptedException {
         int processedReports = 0;
+        final long buildTime = build.getTimestamp().getTimeInMillis();
+        final long nowMaster = System.currentTimeMillis();
 
         XUnitReportProcessorService xUnitReportService = new XUnitReportProcessorService(logger);
-        for (TestType tool : tools) {
+        // converted reports are parsed only once all tools are processed, so
+        // without direct results the live checks report just their number
+        TestResultSummary runningSummary = results != null ? emptySummary : null;
+        for (int i = 0; i < tools.length; i++) {
+            TestType tool = tools[i];
             logger.info("Processing " + tool.getDescriptor().getDisplayName());
 
             if (!isEmptyGivenPattern(xUnitReportService, tool)) {
                 XUnitToolInfo xUnitToolInfo = buildXUnitToolInfo(tool, build, workspace, listener);
                 XUnitTransformerCallable xUnitTransformer = newXUnitTransformer(xUnitToolInfo);
                 try {
-                    processedReports += workspace.act(xUnitTransformer);
+                    if (results != null) {
+                        XUnitDirectResultCallable.Result directResult = act(workspace, new XUnitDirectResultCallable(xUnitTransformer, buildTime, nowMaster, !extraConfiguration.isReduceLog(), pipelineTestDetails), xUnitTransformer.getTimings(), null);
+                        processedReports += directResult.getProcessedReports();
+                        TestResult result = directResult.getTestResult();
+                        if (result != null) {
+                            results.add(result);
+                            if (liveChecksName != null) {
+                                result.tally();
+                                runningSummary = new TestResultSummary(runningSummary.getFailCount() + result.getFailCount(),
+                                        runningSummary.getSkipCount() + result.getSkipCount(),
+                                        runningSummary.getPassCount() + result.getPassCount(),
+                                        runningSummary.getTotalCount() + result.getTotalCount());
+                            }
+                        }
+                    } else {
+                        processedReports += act(workspace, xUnitTransformer, xUnitTransformer.getTimings(), null);
+                    }
                 } catch (IOException e) {
                     Throwable nested = unwrapSlaveException(e);
 
@@ -219,6 +551,7 @@ public class XUnitProcessor {
                     if (nested instanceof NoTestFoundException) {
                         if (xUnitToolInfo.isSkipNoTestFiles()) {
                             logger.info(e.getMessage());
+                            publishProgress(build, listener, i + 1, processedReports, runningSummary);
                             continue;
                         } else {
                             throw (NoTestFoundException) nested;
@@ -227,11 +560,74 @@ public class XUnitProcessor {
                     throw e;
                 }
             }
+            publishProgress(build, listener, i + 1, processedReports, runningSummary);
         }
 
         return processedReports;
     }
 
+    @NonNull
+    private XUnitAggregatedCallable.Result processTestsReportAggregated(Run<?, ?> build,
+                                                    FilePath workspace,
+                                                    TaskListener listener,
+                                                    PipelineTestDetails pipelineTestDetails) throws IOException, InterruptedException {
+        List<XUnitTransformerCallable> transformers = new ArrayList<>();
+        List<String> toolDisplayNames = new ArrayList<>();
+        List<String> deletedToolNames = new ArrayList<>();
+        boolean keepJUnitDirectory = false;
+
+        XUnitReportProcessorService xUnitReportService = new XUnitReportProcessorService(logger);
+        for (TestType tool : tools) {
+            if (tool.isDeleteOutputFiles()) {
+                deletedToolNames.add(tool.getInputMetric().getToolName());
+            } else {
+                keepJUnitDirectory = true;
+            }
+
+            // tools without pattern have nothing to process
+            transformers.add(isEmptyGivenPattern(xUnitReportService, tool) ? null : newXUnitTransformer(buildXUnitToolInfo(tool, build, workspace, listener)));
+            toolDisplayNames.add(tool.getDescriptor().getDisplayName());
+        }
+
+        XUnitAggregatedCallable callable = new XUnitAggregatedCallable(transformers, toolDisplayNames, logger, processorId, //
+                build.getTimestamp().getTimeInMillis(), System.currentTimeMillis(), !extraConfiguration.isReduceLog(), pipelineTestDetails);
+        callable.setPassthrough(JUNIT_PASSTHROUGH);
+        callable.setDirectResults(isDirectResults());
+        callable.setSharedScan(SHARED_SCAN);
+        callable.setDeletion(deletedToolNames, keepJUnitDirectory);
+        PhaseTimings delta = timings != null ? new PhaseTimings() : null;
+        callable.setTimings(delta);
+        for (XUnitTransformerCallable transformer : transformers) {
+            if (transformer != null) {
+                transformer.setTimings(delta);
+            }
+        }
+        XUnitAggregatedCallable.Result result;
+        try {
+            result = act(workspace, callable, delta, null);
+        } catch (IOException e) {
+            Throwable nested = unwrapSlaveException(e);
+
+            // here I should get the original TransformerException
+            if (nested instanceof NoTestFoundException noTestFoundException) {
+                throw noTestFoundException;
+            }
+            throw e;
+        }
+
+        for (int i = 0; i < toolDisplayNames.size(); i++) {
+            logger.info(Messages.xUnitProcessor_processedReports(result.getProcessedReports(i), toolDisplayNames.get(i)));
+        }
+        TestResultSummary summary = emptySummary;
+        TestResult testResult = result.getTestResult();
+        if (liveChecksName != null && testResult != null) {
+            testResult.tally();
+            summary = new TestResultSummary(testResult);
+        }
+        publishProgress(build, listener, tools.length, result.getTotalProcessedReports(), summary);
+        return result;
+    }
+
     private Throwable unwrapSlaveException(IOException e) {
         Throwable nested = e.getCause();
         while (nested != null && !(nested instanceof TransformerException)) {
@@ -279,6 +675,14 @@ public class XUnitProcessor {
             this.extraConfiguration.getSleepTime(), xslContent);
         toolInfo.setExcludesPattern(excludesPattern);
         toolInfo.setFollowSymlink(this.extraConfiguration.isFollowSymlink());
+        toolInfo.setParallelism(this.extraConfiguration.getParallelism());
+        toolInfo.setPipelined(PIPELINED_CONVERSION);
+        toolInfo.setPassthrough(JUNIT_PASSTHROUGH);
+        toolInfo.setTemplatesCache(TEMPLATES_CACHE);
+        toolInfo.setSchemaCache(SCHEMA_CACHE);
+        toolInfo.setConversionCacheSize(CONVERSION_CACHE_SIZE * 1024L * 1024L);
+        toolInfo.setParallelScan(PARALLEL_SCAN);
+        toolInfo.setMaxLoad(MAX_LOAD_PERCENT / 100d);
 
         return toolInfo;
     }
@@ -315,6 +719,10 @@ public class XUnitProcessor {
 
         // Try URL
         if (DownloadableResourceUtil.isURL(customXSLPath)) {
+            if (STYLESHEET_CACHE) {
+                File cacheDir = new File(Jenkins.get().getRootDir(), "caches/xunit-stylesheets");
+                return new DownloadableResourceCache(cacheDir, STYLESHEET_MAX_STALE).get(customXSLPath);
+            }
             return DownloadableResourceUtil.download(customXSLPath);
         }
 
@@ -344,19 +752,84 @@ public class XUnitProcessor {
                 new XUnitValidationService(logger), //
                 xUnitToolInfo, logger);
         transformer.setProcessorId(processorId);
+        // each call records only its own phases, added to the build ones once returned
+        transformer.setTimings(timings != null ? new PhaseTimings() : null);
         return transformer;
     }
 
+    /*
+     * Runs the callable on the workspace node and collects the phases it
+     * measured there, messages logged on an agent are batched when enabled.
+     * The given delta must be empty and the same instance the callable
+     * records on, otherwise phases already collected would be added again.
+     */
+    private <T> T act(FilePath workspace, FileCallable<T> callable, @CheckForNull PhaseTimings delta, @CheckForNull PhaseTimings.Phase phase) throws IOException, InterruptedException {
+        if (BUFFERED_LOG && workspace.isRemote()) {
+            callable = new XUnitBufferedLogCallable<>(callable, logger);
+        }
+        if (timings == null) {
+            return workspace.act(callable);
+        }
+        XUnitTimedCallable.Result<T> result = workspace.act(new XUnitTimedCallable<>(callable, delta != null ? delta : new PhaseTimings(), phase));
+        timings.addAll(result.getTimings());
+        return result.getValue();
+    }
+
+    /*
+     * Moves the phases measured so far into the build action.
+     */
+    private void storeTimings(Run<?, ?> build) {
+        if (timings == null || timings.isEmpty()) {
+            return;
+        }
+        XUnitTimingAction action;
+        synchronized (build) { // NOSONAR
+            action = build.getAction(XUnitTimingAction.class);
+            if (action == null) {
+                action = new XUnitTimingAction();
+                build.addAction(action);
+            }
+        }
+        action.add(timings);
+        timings = new PhaseTimings();
+    }
+
     private TestResultSummary getPreviousTestResult(Run<?, ?> build) {
         Run<?, ?> previousBuild = build.getPreviousCompletedBuild();
         if (previousBuild == null) {
             return null;
         }
+        // the counters of the action do not require to load the whole result
         TestResultAction previousAction = previousBuild.getAction(TestResultAction.class);
         if (previousAction == null) {
             return null;
         }
-        return new TestResultSummary(previousAction.getResult());
+        int failCount = previousAction.getFailCount();
+        int skipCount = previousAction.getSkipCount();
+        int totalCount = previousAction.getTotalCount();
+        return new TestResultSummary(failCount, skipCount, totalCount - failCount - skipCount, totalCount);
+    }
+
+    /*
+     * Compares the failed tests recorded by this processor with those of the
+     * previous build, when both have been indexed.
+     */
+    @CheckForNull
+    private FailureDelta getFailureDelta(Run<?, ?> build) {
+        if (failedTests == null) {
+            return null;
+        }
+        Run<?, ?> previousBuild = build.getPreviousCompletedBuild();
+        if (previousBuild == null) {
+            return null;
+        }
+        try {
+            long[] previousFailedTests = FailureIndex.read(previousBuild);
+            return previousFailedTests != null ? FailureIndex.compare(failedTests, previousFailedTests) : null;
+        } catch (IOException e) {
+            logger.warn(Messages.xUnitProcessor_failureIndexNotReadable(previousBuild.getFullDisplayName(), e.getMessage()));
+            return null;
+        }
     }
 
     private XUnitProcessorResult recordTestResult(Run<?, ?> build,
@@ -364,45 +837,65 @@ public class XUnitProcessor {
                                         TaskListener listener,
                                         Launcher launcher,
                                         Collection<TestDataPublisher> testDataPublishers,
-                                        PipelineTestDetails pipelineTestDetails) throws IOException, InterruptedException {
-        final long buildTime = build.getTimestamp().getTimeInMillis();
-        final long nowMaster = System.currentTimeMillis();
-
+                                        @CheckForNull TestResult result) throws IOException, InterruptedException {
         TestResultSummary summary = emptySummary;
 
-        TestResult result = getTestResult(workspace, "**/TEST-*.xml", buildTime, nowMaster, pipelineTestDetails);
         if (result != null) {
             result.tally(); // force re-index of counts that has been lost when result is build on a remote callable
 
             // get the result summary before merge that change the internal structure and it's count
             summary = new TestResultSummary(result);
+            if (FAILURE_INDEX) {
+                failedTests = FailureIndex.hash(result);
+            }
 
-            synchronized (build) { // NOSONAR
-                TestResultAction action = build.getAction(TestResultAction.class);
-                boolean appending;
-                if (action == null) {
-                    appending = false;
-                    action = new TestResultAction(build, result, listener);
-                } else {
-                    appending = true;
-                    result.freeze(action);
-                    action.mergeResult(result, listener);
-                }
+            PhaseTimings.Sample sample = PhaseTimings.start();
+            ResultMergeEvent event = new ResultMergeEvent();
+            event.begin();
 
-                // decorates reports with extra informations
-                for (TestDataPublisher tdp : testDataPublishers) {
-                    TestResultAction.Data d = tdp.contributeTestData(build, workspace, launcher, listener, result);
-                    if (d != null) {
+            if (BATCHED_MERGE) {
+                // test data are contributed by the batch once the result refers the test result action
+                event.setAppended(TestResultMerger.of(build).merge(build, result, //
+                        r -> contributeTestData(build, workspace, launcher, listener, testDataPublishers, r), listener));
+            } else {
+                synchronized (build) { // NOSONAR
+                    TestResultAction action = build.getAction(TestResultAction.class);
+                    boolean appending;
+                    if (action == null) {
+                        appending = false;
+                        action = new TestResultAction(build, result, listener);
+                    } else {
+                        appending = true;
+                        result.freeze(action);
+                        action.mergeResult(result, listener);
+                    }
+
+                    // decorates reports with extra informations
+                    for (TestResultAction.Data d : contributeTestData(build, workspace, launcher, listener, testDataPublishers, result)) {
                         action.addData(d);
                     }
-                }
 
-                if (appending) {
-                    build.save();
-                } else {
-                    build.addAction(action);
+                    if (appending) {
+                        BuildSaver.save(build);
+                    } else {
+                        build.addAction(action);
+                    }
+                    event.setAppended(appending);
                 }
             }
+            if (failedTests != null) {
+                synchronized (build) { // NOSONAR
+                    FailureIndex.append(build, failedTests);
+                }
+            }
+            if (timings != null) {
+                timings.stop(sample, null, PhaseTimings.Phase.MERGE);
+            }
+            if (event.shouldCommit()) {
+                event.setTestCount(summary.getTotalCount());
+                event.setOutcome(XUnitEvent.SUCCESS);
+                event.commit();
+            }
         } else {
             result = new TestResult();
         }
@@ -410,6 +903,22 @@ public class XUnitProcessor {
         return new XUnitProcessorResult(summary, result);
     }
 
+    private List<TestResultAction.Data> contributeTestData(Run<?, ?> build,
+                                                         FilePath workspace,
+                                                         Launcher launcher,
+                                                         TaskListener listener,
+                                                         Collection<TestDataPublisher> testDataPublishers,
+                                                         TestResult result) throws IOException, InterruptedException {
+        List<TestResultAction.Data> data = new ArrayList<>();
+        for (TestDataPublisher tdp : testDataPublishers) {
+            TestResultAction.Data d = tdp.contributeTestData(build, workspace, launcher, listener, result);
+            if (d != null) {
+                data.add(d);
+            }
+        }
+        return data;
+    }
+
     /**
      * Gets a Test result object (a new one if any)
      *
@@ -428,22 +937,33 @@ public class XUnitProcessor {
                                      final long nowMaster,
                                      final PipelineTestDetails pipelineTestDetails) throws IOException, InterruptedException {
 
-        return workspace.act(new ReportParserCallable(buildTime, junitFilePattern, nowMaster, processorId, extraConfiguration.isReduceLog(), pipelineTestDetails));
+        return act(workspace, new ReportParserCallable(buildTime, junitFilePattern, nowMaster, processorId, extraConfiguration.isReduceLog(), pipelineTestDetails, JUNIT_PASSTHROUGH), null, PhaseTimings.Phase.PARSING);
     }
 
     @NonNull
     @Restricted(NoExternalUse.class)
     public Result processResultThreshold(TestResultSummary testResult, Run<?, ?> build) {
-        TestResultSummary previousTestResult = getPreviousTestResult(build);
+        PhaseTimings.Sample sample = PhaseTimings.start();
+        try {
+            return processResultThreshold(testResult, build, getPreviousTestResult(build), getFailureDelta(build));
+        } finally {
+            if (timings != null) {
+                timings.stop(sample, null, PhaseTimings.Phase.THRESHOLDS);
+                storeTimings(build);
+            }
+        }
+    }
+
+    private Result processResultThreshold(TestResultSummary testResult, Run<?, ?> build, TestResultSummary previousTestResult, FailureDelta failureDelta) {
 
         if (thresholds != null) {
             for (XUnitThreshold threshold : thresholds) {
                 logger.info(Messages.xUnitProcessor_checkThreshold(threshold.getDescriptor().getDisplayName()));
                 Result result;
                 if (XUnitDefaultValues.MODE_PERCENT == thresholdMode) {
-                    result = threshold.getResultThresholdPercent(logger, build, testResult, previousTestResult);
+                    result = threshold.getResultThresholdPercent(logger, build, testResult, previousTestResult, failureDelta);
                 } else {
-                    result = threshold.getResultThresholdNumber(logger, build, testResult, previousTestResult);
+                    result = threshold.getResultThresholdNumber(logger, build, testResult, previousTestResult, failureDelta);
                 }
                 if (result.isWorseThan(Result.SUCCESS)) {
                     return result;
@@ -25,6 +25,7 @@ package org.jenkinsci.plugins.xunit;
 
 import static org.jenkinsci.plugins.xunit.XUnitDefaultValues.FOLLOW_SYMLINK;
 import static org.jenkinsci.plugins.xunit.XUnitDefaultValues.JUNIT_FILE_REDUCE_LOG;
+import static org.jenkinsci.plugins.xunit.XUnitDefaultValues.PROCESSING_PARALLELISM;
 import static org.jenkinsci.plugins.xunit.XUnitDefaultValues.PROCESSING_SLEEP_TIME;
 import static org.jenkinsci.plugins.xunit.XUnitDefaultValues.TEST_REPORT_TIME_MARGING;
 import static org.jenkinsci.plugins.xunit.XUnitDefaultValues.SKIP_PUBLISHING_CHECKS;
@@ -119,6 +120,18 @@ public class XUnitPublisher extends Recorder implements SimpleBuildStep {
         return extraConfiguration.isReduceLog();
     }
 
+    @DataBoundSetter
+    public void setParallelism(int parallelism) {
+        extraConfiguration = ExtraConfiguration.withConfiguration(extraConfiguration).parallelism(parallelism > 0 ? parallelism : PROCESSING_PARALLELISM).build();
+    }
+
+    /*
+     * Needed to support Snippet Generator and Workflow properly
+     */
+    public int getParallelism() {
+        return getExtraConfiguration().getParallelism();
+    }
+
     @DataBoundSetter
     public void setFollowSymlink(boolean followSymlink) {
         extraConfiguration = ExtraConfiguration.withConfiguration(extraConfiguration).followSymlink(followSymlink).build();
@@ -302,6 +315,19 @@ public class XUnitPublisher extends Recorder implements SimpleBuildStep {
             return FormValidation.ok();
         }
 
+        /**
+         * Verify that the given parallelism is a number greater than zero.
+         *
+         * @param parallelism value
+         * @return an validation form for the given parallelism value.
+         */
+        public FormValidation doCheckParallelism(@QueryParameter final int parallelism) {
+            if (parallelism < 1) {
+                return FormValidation.error(Messages.xUnitProcessor_checkParallelism());
+            }
+            return FormValidation.ok();
+        }
+
     }
 
 }
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit;
+
+import java.util.List;
+
+import org.jenkinsci.plugins.xunit.service.PhaseTimings;
+import org.kohsuke.stapler.export.Exported;
+import org.kohsuke.stapler.export.ExportedBean;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.model.Action;
+import hudson.model.Api;
+
+/**
+ * Keeps the time spent in each phase of the xUnit processing of a build.
+ * <p>
+ * Measures of all xUnit invocations of the build are summed per tool and
+ * phase and are available through the remote API at {@code xunit/api/json}.
+ *
+ * @author Nikolas Falco
+ */
+@ExportedBean
+public class XUnitTimingAction implements Action {
+
+    private final PhaseTimings timings = new PhaseTimings();
+
+    /**
+     * Adds the measures of an xUnit invocation.
+     *
+     * @param timings the measures to add
+     */
+    public void add(@NonNull PhaseTimings timings) {
+        this.timings.addAll(timings);
+    }
+
+    /**
+     * Returns the measures of each phase per tool.
+     *
+     * @return the measures in the order they were first recorded
+     */
+    @NonNull
+    @Exported(inline = true)
+    public List<PhaseTimings.Entry> getPhases() {
+        return timings.getEntries();
+    }
+
+    public Api getApi() {
+        return new Api(this);
+    }
+
+    @Override
+    public String getIconFileName() {
+        return null;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return Messages.XUnitTimingAction_displayName();
+    }
+
+    @Override
+    public String getUrlName() {
+        return "xunit";
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Base class of the flight recorder events of the xUnit processing.
+ * <p>
+ * Events must be created and started before the measured operation and their
+ * fields must be set only when {@link #shouldCommit()} returns {@code true},
+ * this way nothing is computed when the event is not recorded.
+ *
+ * @author Nikolas Falco
+ */
+@Category({ "Jenkins", "xUnit" })
+@StackTrace(false)
+public abstract class XUnitEvent extends Event {
+
+    public static final String SUCCESS = "success";
+    public static final String SKIPPED = "skipped";
+    public static final String FAILURE = "failure";
+
+    @Label("Tool")
+    protected String tool;
+
+    @Label("Outcome")
+    protected String outcome;
+
+    public void setTool(String tool) {
+        this.tool = tool;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+}
@@ -61,6 +61,7 @@ public class XUnitResultsStep extends Step {
     private int thresholdMode = 1;
     private long testTimeMargin = XUnitDefaultValues.TEST_REPORT_TIME_MARGING;
     private long sleepTime = XUnitDefaultValues.PROCESSING_SLEEP_TIME;
+    private int parallelism = XUnitDefaultValues.PROCESSING_PARALLELISM;
     private boolean reduceLog = XUnitDefaultValues.JUNIT_FILE_REDUCE_LOG;
     private boolean followSymlink = XUnitDefaultValues.FOLLOW_SYMLINK;
     private Collection<TestDataPublisher> testDataPublishers;
@@ -105,6 +106,15 @@ public class XUnitResultsStep extends Step {
         return sleepTime;
     }
 
+    @DataBoundSetter
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism > 0 ? parallelism : XUnitDefaultValues.PROCESSING_PARALLELISM;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
     @DataBoundSetter
     public void setTestTimeMargin(String testTimeMargin) {
         this.testTimeMargin = XUnitUtil.parsePositiveLong(testTimeMargin, XUnitDefaultValues.TEST_REPORT_TIME_MARGING);
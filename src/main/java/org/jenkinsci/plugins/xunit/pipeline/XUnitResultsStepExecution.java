@@ -83,7 +83,9 @@ public class XUnitResultsStepExecution extends SynchronousNonBlockingStepExecuti
         XUnitProcessor xUnitProcessor = new XUnitProcessor(step.getTools().toArray(new TestType[0]),
                 step.getThresholds().toArray(new XUnitThreshold[0]),
                 step.getThresholdMode(),
-                new ExtraConfiguration(step.getTestTimeMarginAsLong(), step.isReduceLog(), step.getSleepTime(), step.isFollowSymlink(), step.isSkipPublishingChecks(), step.getChecksName()));
+                ExtraConfiguration.withConfiguration(new ExtraConfiguration(step.getTestTimeMarginAsLong(), step.isReduceLog(), step.getSleepTime(), step.isFollowSymlink(), step.isSkipPublishingChecks(), step.getChecksName())) //
+                        .parallelism(step.getParallelism()) //
+                        .build());
         List<FlowNode> enclosingBlocks = JUnitResultsStepExecution.getEnclosingStagesAndParallels(node);
 
         PipelineTestDetails pipelineTestDetails = new PipelineTestDetails();
@@ -0,0 +1,234 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Util;
+
+/**
+ * Node local cache of converted reports.
+ * <p>
+ * Converted reports are stored in a folder of the node identified by the
+ * digest of the stylesheet and of the input report content, so reports that
+ * did not change between builds are neither validated nor converted again.
+ * The least recently used reports are removed when the folder exceeds its
+ * capacity.
+ *
+ * @author Nikolas Falco
+ */
+final class ConversionCache {
+
+    static final String DIRECTORY = System.getProperty(ConversionCache.class.getName() + ".directory",
+            new File(System.getProperty("java.io.tmpdir"), "xunit-conversion-cache").getPath());
+
+    private static final String EXTENSION = ".xml";
+
+    /* one index for each folder shared by all builds that run on this node */
+    private static final Map<File, ConversionCache> INSTANCES = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long maxSize;
+    private long size;
+
+    ConversionCache(@NonNull File directory, long maxSize) throws IOException {
+        this.directory = directory.toPath();
+        this.maxSize = maxSize;
+        Files.createDirectories(this.directory);
+        load();
+    }
+
+    /**
+     * Gets the cache that stores reports in the default folder of this node.
+     *
+     * @param maxSize the maximum size in bytes of the cache
+     * @return the cache
+     * @throws IOException if the cache folder could not be created
+     */
+    @NonNull
+    static ConversionCache get(long maxSize) throws IOException {
+        File directory = new File(DIRECTORY).getAbsoluteFile();
+        ConversionCache cache = INSTANCES.get(directory);
+        if (cache == null) {
+            cache = new ConversionCache(directory, maxSize);
+            ConversionCache previous = INSTANCES.putIfAbsent(directory, cache);
+            if (previous != null) {
+                cache = previous;
+            }
+        }
+        cache.setMaxSize(maxSize);
+        return cache;
+    }
+
+    /**
+     * Computes the key of the given report.
+     *
+     * @param stylesheetKey the key of the stylesheet that converts the report
+     * @param inputFile the report to convert
+     * @return the cache key
+     * @throws IOException if the report could not be read
+     */
+    @NonNull
+    static String getKey(@NonNull String stylesheetKey, @NonNull File inputFile) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(stylesheetKey.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            try (InputStream is = new DigestInputStream(Files.newInputStream(inputFile.toPath()), digest)) {
+                is.transferTo(OutputStream.nullOutputStream());
+            }
+            return Util.toHexString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory for every JVM implementation
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Copies the cached converted report into the given file.
+     *
+     * @param key the cache key of the input report
+     * @param junitTargetFile the file where copy the converted report
+     * @return {@code true} if the report was in cache, {@code false} otherwise
+     * @throws IOException if the converted report could not be written
+     */
+    boolean restore(@NonNull String key, @NonNull File junitTargetFile) throws IOException {
+        synchronized (entries) {
+            if (entries.get(key) == null) {
+                return false;
+            }
+        }
+        Path entry = directory.resolve(key + EXTENSION);
+        try {
+            Files.copy(entry, junitTargetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return true;
+        } catch (NoSuchFileException e) {
+            // evicted by another build
+            synchronized (entries) {
+                Long removed = entries.remove(key);
+                if (removed != null) {
+                    size -= removed;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Stores a converted report.
+     *
+     * @param key the cache key of the input report
+     * @param junitFile the converted report
+     * @throws IOException if the converted report could not be stored
+     */
+    void store(@NonNull String key, @NonNull File junitFile) throws IOException {
+        long length = junitFile.length();
+        if (length > maxSize) {
+            return;
+        }
+
+        Path tmp = Files.createTempFile(directory, key, ".tmp");
+        try {
+            Files.copy(junitFile.toPath(), tmp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tmp, directory.resolve(key + EXTENSION), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+
+        synchronized (entries) {
+            Long previous = entries.put(key, length);
+            size += length - (previous != null ? previous : 0);
+            evict();
+        }
+    }
+
+    long size() {
+        synchronized (entries) {
+            return size;
+        }
+    }
+
+    private void setMaxSize(long maxSize) {
+        synchronized (entries) {
+            this.maxSize = maxSize;
+            evict();
+        }
+    }
+
+    private void load() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(directory)) {
+            stream.filter(p -> p.getFileName().toString().endsWith(EXTENSION)).forEach(files::add);
+        }
+        // the least recently used report is the first one
+        files.sort(Comparator.comparingLong(p -> p.toFile().lastModified()));
+        synchronized (entries) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                long length = file.toFile().length();
+                entries.put(name.substring(0, name.length() - EXTENSION.length()), length);
+                size += length;
+            }
+            evict();
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+        while (size > maxSize && it.hasNext()) {
+            Map.Entry<String, Long> eldest = it.next();
+            try {
+                Files.deleteIfExists(directory.resolve(eldest.getKey() + EXTENSION));
+            } catch (IOException e) {
+                // it will be overwritten the next time it is stored
+            }
+            size -= eldest.getValue();
+            it.remove();
+        }
+    }
+
+}
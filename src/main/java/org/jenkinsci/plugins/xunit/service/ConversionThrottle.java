@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Paces the conversion of reports on the node.
+ * <p>
+ * In legacy mode the conversion sleeps a fixed time every 50 reports. In
+ * adaptive mode the load that other processes put on the node is sampled
+ * while reports are converted and, as long as it exceeds the configured
+ * budget, conversion workers are paused with an increasing delay, up to a
+ * maximum wait. The load is sampled again during the pause, so the conversion
+ * resumes as soon as the node goes back under the budget. When the node is
+ * idle reports are converted at full speed.
+ *
+ * @author Nikolas Falco
+ */
+class ConversionThrottle {
+
+    private static final int LEGACY_BATCH_SIZE = 50;
+    private static final long SAMPLE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private static final long MIN_DELAY = 100;
+    private static final long MAX_DELAY = 5000;
+    private static final long MAX_WAIT = TimeUnit.SECONDS.toMillis(30);
+
+    private final long sleepTime;
+    private final double maxLoad;
+    private final DoubleSupplier load;
+    private final LongSupplier clock;
+    private final long maxWait;
+    private long nextSample;
+    private long throttledTime;
+    private boolean paused;
+
+    /**
+     * Creates the throttle configured for the given tool.
+     *
+     * @param toolInfo the tool options
+     * @return a new throttle
+     */
+    static ConversionThrottle create(XUnitToolInfo toolInfo) {
+        return new ConversionThrottle(toolInfo.getSleepTime(), toolInfo.getMaxLoad(), ConversionThrottle::externalLoad, System::nanoTime, MAX_WAIT);
+    }
+
+    ConversionThrottle(long sleepTime, double maxLoad, DoubleSupplier load, LongSupplier clock, long maxWait) {
+        this.sleepTime = sleepTime;
+        this.maxLoad = maxLoad;
+        this.load = load;
+        this.clock = clock;
+        this.maxWait = maxWait;
+        this.nextSample = clock.getAsLong() + SAMPLE_INTERVAL;
+    }
+
+    /**
+     * Returns if the load of the node drives the conversion pace.
+     *
+     * @return {@code true} in adaptive mode, {@code false} in legacy mode
+     */
+    boolean isAdaptive() {
+        return maxLoad > 0;
+    }
+
+    /**
+     * Called each time a report has been converted, waits if the conversion
+     * must slow down.
+     *
+     * @param processedFiles the number of reports converted so far
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void afterReport(int processedFiles) throws InterruptedException {
+        if (!isAdaptive()) {
+            // this should not more needed using NonBlocking step
+            if (processedFiles % LEGACY_BATCH_SIZE == 0 && sleepTime > 0) {
+                Thread.sleep(sleepTime);
+            }
+            return;
+        }
+
+        synchronized (this) {
+            // other workers wait the end of a pause without hold the monitor
+            while (paused) {
+                wait();
+            }
+            long now = clock.getAsLong();
+            if (now - nextSample < 0) {
+                return;
+            }
+            nextSample = now + SAMPLE_INTERVAL;
+            if (load.getAsDouble() <= maxLoad) {
+                return;
+            }
+            paused = true;
+        }
+
+        long waited = 0;
+        try {
+            long delay = MIN_DELAY;
+            do {
+                long pause = Math.min(delay, maxWait - waited);
+                Thread.sleep(pause);
+                waited += pause;
+                delay = Math.min(delay * 2, MAX_DELAY);
+            } while (waited < maxWait && load.getAsDouble() > maxLoad);
+        } finally {
+            synchronized (this) {
+                throttledTime += waited;
+                nextSample = clock.getAsLong() + SAMPLE_INTERVAL;
+                paused = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Returns the total time conversion has been paused in adaptive mode.
+     *
+     * @return the time in milliseconds
+     */
+    synchronized long getThrottledTime() {
+        return throttledTime;
+    }
+
+    /**
+     * Returns the load of the node without the one of this process.
+     *
+     * @param systemLoad the CPU usage of the whole node
+     * @param processLoad the CPU usage of this process
+     * @return the CPU usage of other processes
+     */
+    static double externalLoad(double systemLoad, double processLoad) {
+        return Math.max(0, systemLoad - processLoad);
+    }
+
+    /*
+     * The recent CPU usage of other processes, so that the workers of this
+     * conversion never throttle themselves. Where it is not available the
+     * load average per processor is used, that also counts this conversion.
+     */
+    private static double externalLoad() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOS) {
+            double cpuLoad = sunOS.getCpuLoad();
+            double processCpuLoad = sunOS.getProcessCpuLoad();
+            if (cpuLoad >= 0 && processCpuLoad >= 0) {
+                return externalLoad(cpuLoad, processCpuLoad);
+            }
+        }
+        double loadAverage = os.getSystemLoadAverage();
+        if (loadAverage >= 0) {
+            return loadAverage / os.getAvailableProcessors();
+        }
+        // unknown load never throttles
+        return 0;
+    }
+}
\ No newline at end of file
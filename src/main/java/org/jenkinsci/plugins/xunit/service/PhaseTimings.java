@@ -0,0 +1,250 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kohsuke.stapler.export.Exported;
+import org.kohsuke.stapler.export.ExportedBean;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Collects wall time, CPU time and allocated bytes of each processing phase
+ * per tool.
+ * <p>
+ * CPU time and allocated bytes are those of the thread that runs the phase,
+ * when reports are converted in parallel the values of all workers are
+ * summed. An instance is sent to the node together with the callables that
+ * record on it and it is returned back with the result.
+ *
+ * @author Nikolas Falco
+ */
+public class PhaseTimings implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The phases of the xUnit processing.
+     */
+    public enum Phase {
+        DISCOVERY, INPUT_VALIDATION, CONVERSION, OUTPUT_VALIDATION, PARSING, MERGE, THRESHOLDS, CHECKS
+    }
+
+    /**
+     * A point in time of the current thread from where a phase is measured.
+     */
+    public static final class Sample {
+        private final long wallTime;
+        private final long cpuTime;
+        private final long allocatedBytes;
+
+        private Sample() {
+            this.wallTime = System.nanoTime();
+            this.cpuTime = cpuTime();
+            this.allocatedBytes = allocatedBytes();
+        }
+    }
+
+    /**
+     * The accumulated measures of a phase for a tool.
+     */
+    @ExportedBean(defaultVisibility = 2)
+    public static final class Entry implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final String tool;
+        private final Phase phase;
+        private long count;
+        private long wallTime;
+        private long cpuTime;
+        private long allocatedBytes;
+
+        Entry(@CheckForNull String tool, @NonNull Phase phase) {
+            this.tool = tool;
+            this.phase = phase;
+        }
+
+        /**
+         * Returns the tool name.
+         *
+         * @return the tool name or {@code null} for phases that concern all
+         *         tools
+         */
+        @CheckForNull
+        @Exported(skipNull = true)
+        public String getTool() {
+            return tool;
+        }
+
+        @NonNull
+        @Exported
+        public Phase getPhase() {
+            return phase;
+        }
+
+        /**
+         * Returns how many times the phase has been measured, for example the
+         * number of converted reports.
+         *
+         * @return the number of measures
+         */
+        @Exported
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the elapsed time.
+         *
+         * @return the time in milliseconds
+         */
+        @Exported
+        public long getWallTime() {
+            return TimeUnit.NANOSECONDS.toMillis(wallTime);
+        }
+
+        /**
+         * Returns the CPU time.
+         *
+         * @return the time in milliseconds, 0 if not supported by the JVM
+         */
+        @Exported
+        public long getCpuTime() {
+            return TimeUnit.NANOSECONDS.toMillis(cpuTime);
+        }
+
+        /**
+         * Returns the bytes allocated in the heap.
+         *
+         * @return the allocated bytes, 0 if not supported by the JVM
+         */
+        @Exported
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        void add(Entry other) {
+            count += other.count;
+            wallTime += other.wallTime;
+            cpuTime += other.cpuTime;
+            allocatedBytes += other.allocatedBytes;
+        }
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Starts to measure a phase on the current thread.
+     *
+     * @return the starting sample
+     */
+    @NonNull
+    public static Sample start() {
+        return new Sample();
+    }
+
+    /**
+     * Records the measures of a phase started on the current thread.
+     *
+     * @param sample the sample returned when the phase started
+     * @param tool the tool name, {@code null} for phases that concern all
+     *        tools
+     * @param phase the measured phase
+     */
+    public void stop(@NonNull Sample sample, @CheckForNull String tool, @NonNull Phase phase) {
+        Entry measure = new Entry(tool, phase);
+        measure.count = 1;
+        measure.wallTime = System.nanoTime() - sample.wallTime;
+        measure.cpuTime = Math.max(0, cpuTime() - sample.cpuTime);
+        measure.allocatedBytes = Math.max(0, allocatedBytes() - sample.allocatedBytes);
+        add(measure);
+    }
+
+    /**
+     * Adds all measures of the given timings to this one.
+     *
+     * @param other the timings to add
+     */
+    public void addAll(@NonNull PhaseTimings other) {
+        if (other == this) {
+            return;
+        }
+        for (Entry entry : other.getEntries()) {
+            add(entry);
+        }
+    }
+
+    /**
+     * Returns a copy of all measures.
+     *
+     * @return the measures in the order they were first recorded
+     */
+    @NonNull
+    public synchronized List<Entry> getEntries() {
+        List<Entry> result = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            Entry copy = new Entry(entry.tool, entry.phase);
+            copy.add(entry);
+            result.add(copy);
+        }
+        return result;
+    }
+
+    /**
+     * Returns if no phase has been recorded.
+     *
+     * @return {@code true} if there are no measures
+     */
+    public synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    private synchronized void add(Entry measure) {
+        entries.computeIfAbsent(measure.tool + '/' + measure.phase, k -> new Entry(measure.tool, measure.phase)).add(measure);
+    }
+
+    private static long cpuTime() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean.isCurrentThreadCpuTimeSupported() ? bean.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemoryEnabled()) {
+            return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+}
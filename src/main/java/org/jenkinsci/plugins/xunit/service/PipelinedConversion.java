@@ -0,0 +1,379 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.validation.Schema;
+import javax.xml.validation.ValidatorHandler;
+
+import org.jenkinsci.lib.dtkit.model.AbstractOutputMetric;
+import org.jenkinsci.lib.dtkit.model.InputMetric;
+import org.jenkinsci.lib.dtkit.model.InputMetricXSL;
+import org.jenkinsci.lib.dtkit.model.OutputMetric;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+import org.xml.sax.helpers.XMLFilterImpl;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Validates, converts and validates the converted report reading the input
+ * report only once.
+ * <p>
+ * The SAX events of the input report are sent at the same time to the input
+ * schema validator and to the stylesheet. The events produced by the
+ * stylesheet are sent to the JUnit schema validator and to the serializer that
+ * writes the converted report.
+ *
+ * @author Nikolas Falco
+ */
+public final class PipelinedConversion {
+
+    /**
+     * The outcome of a pipelined conversion.
+     */
+    public static final class Result {
+        private final File targetFile;
+        private final List<String> inputErrors;
+        private final List<String> outputErrors;
+
+        Result(@CheckForNull File targetFile, @NonNull List<String> inputErrors, @NonNull List<String> outputErrors) {
+            this.targetFile = targetFile;
+            this.inputErrors = Collections.unmodifiableList(inputErrors);
+            this.outputErrors = Collections.unmodifiableList(outputErrors);
+        }
+
+        /**
+         * Returns the converted report.
+         *
+         * @return the converted report or {@code null} if the input report is
+         *         not valid
+         */
+        @CheckForNull
+        public File getTargetFile() {
+            return targetFile;
+        }
+
+        public boolean isValidInput() {
+            return inputErrors.isEmpty();
+        }
+
+        public boolean isValidOutput() {
+            return outputErrors.isEmpty();
+        }
+
+        @NonNull
+        public List<String> getInputErrors() {
+            return inputErrors;
+        }
+
+        @NonNull
+        public List<String> getOutputErrors() {
+            return outputErrors;
+        }
+    }
+
+    /*
+     * The output properties of the stylesheet that the JDK serializer
+     * supports, extensions of other processors are ignored.
+     */
+    private static final String[] OUTPUT_KEYS = { OutputKeys.METHOD, OutputKeys.VERSION, OutputKeys.ENCODING, //
+            OutputKeys.OMIT_XML_DECLARATION, OutputKeys.STANDALONE, OutputKeys.DOCTYPE_PUBLIC, OutputKeys.DOCTYPE_SYSTEM, //
+            OutputKeys.CDATA_SECTION_ELEMENTS, OutputKeys.INDENT, OutputKeys.MEDIA_TYPE };
+
+    private final Schema inputSchema;
+    private final Schema outputSchema;
+
+    private PipelinedConversion(@CheckForNull Schema inputSchema, @CheckForNull Schema outputSchema) {
+        this.inputSchema = inputSchema;
+        this.outputSchema = outputSchema;
+    }
+
+    /**
+     * Creates a pipelined conversion for the given metric.
+     *
+     * @param inputMetric the metric of the reports to convert
+     * @return the pipelined conversion or {@code null} if the given metric
+     *         does not support it
+     */
+    @CheckForNull
+    static PipelinedConversion forMetric(@NonNull InputMetric inputMetric) {
+        if (!(inputMetric instanceof InputMetricXSL inputMetricXSL) || !XSLTemplatesCache.get().isCacheable(inputMetricXSL)) {
+            return null;
+        }
+        // metrics that customise the validation could not be pipelined
+        if (!usesDefaultValidation(inputMetric)) {
+            return null;
+        }
+
+        try {
+            Schema inputSchema = null;
+            String[] inputXsdNames = inputMetricXSL.getInputXsdNameList();
+            if (inputXsdNames != null) {
+                inputSchema = XSDSchemaCache.get().getSchema(inputMetric.getClass(), inputXsdNames);
+                if (inputSchema == null) {
+                    return null;
+                }
+            }
+
+            Schema outputSchema = null;
+            OutputMetric outputMetric = inputMetricXSL.getOutputFormatType();
+            if (outputMetric != null && !(outputMetric instanceof AbstractOutputMetric)) {
+                return null;
+            }
+            if (outputMetric instanceof AbstractOutputMetric abstractOutputMetric && abstractOutputMetric.getXsdNameList() != null) {
+                outputSchema = XSDSchemaCache.get().getSchema(outputMetric.getClass(), abstractOutputMetric.getXsdNameList());
+                if (outputSchema == null) {
+                    return null;
+                }
+            }
+            return new PipelinedConversion(inputSchema, outputSchema);
+        } catch (SAXException e) {
+            return null;
+        }
+    }
+
+    private static boolean usesDefaultValidation(InputMetric inputMetric) {
+        try {
+            Class<?> clazz = inputMetric.getClass();
+            return clazz.getMethod("validateInputFile", File.class).getDeclaringClass().isAssignableFrom(InputMetricXSL.class)
+                    && clazz.getMethod("validateOutputFile", File.class).getDeclaringClass().isAssignableFrom(InputMetricXSL.class);
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Converts the given report.
+     *
+     * @param templates the compiled stylesheet
+     * @param inputFile the report to convert
+     * @param junitTargetFile the file where write the converted report
+     * @return the outcome of the conversion
+     * @throws IOException if the input report could not be read or the
+     *         converted report could not be written
+     * @throws javax.xml.transform.TransformerException if the stylesheet
+     *         fails to convert a well-formed report
+     */
+    @NonNull
+    Result convert(@NonNull Templates templates, @NonNull File inputFile, @NonNull File junitTargetFile) throws IOException, javax.xml.transform.TransformerException {
+        XSDSchemaCache.ErrorCollector inputErrors = new XSDSchemaCache.ErrorCollector();
+        XSDSchemaCache.ErrorCollector outputErrors = new XSDSchemaCache.ErrorCollector();
+
+        XMLReader reader = XSLTemplatesCache.newReader();
+        if (inputSchema != null) {
+            ValidatorHandler inputValidator = inputSchema.newValidatorHandler();
+            inputValidator.setErrorHandler(inputErrors);
+            inputValidator.setContentHandler(new DefaultHandler());
+            reader = new ValidatingFilter(reader, inputValidator);
+        }
+        SAXSource source = new SAXSource(reader, new InputSource(inputFile.toURI().toASCIIString()));
+
+        try (OutputStream os = Files.newOutputStream(junitTargetFile.toPath())) {
+            TransformerHandler serializer = newSerializer(templates, os);
+            SAXResult result;
+            if (outputSchema != null) {
+                ValidatorHandler outputValidator = outputSchema.newValidatorHandler();
+                outputValidator.setErrorHandler(outputErrors);
+                outputValidator.setContentHandler(new DefaultHandler());
+                result = new SAXResult(new TeeContentHandler(outputValidator, serializer));
+            } else {
+                result = new SAXResult(serializer);
+            }
+            result.setLexicalHandler(serializer);
+
+            templates.newTransformer().transform(source, result);
+        } catch (javax.xml.transform.TransformerException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e.getException();
+            if (!(cause instanceof SAXParseException) && inputErrors.getErrors().isEmpty()) {
+                Files.deleteIfExists(junitTargetFile.toPath());
+                throw e;
+            }
+            // not well-formed input reports are invalid input reports
+            inputErrors.add(cause instanceof SAXParseException spe ? spe : new SAXParseException(e.getMessage(), null));
+        }
+
+        if (!inputErrors.getErrors().isEmpty()) {
+            Files.deleteIfExists(junitTargetFile.toPath());
+            return new Result(null, inputErrors.getErrors(), outputErrors.getErrors());
+        }
+        return new Result(junitTargetFile, inputErrors.getErrors(), outputErrors.getErrors());
+    }
+
+    private TransformerHandler newSerializer(Templates templates, OutputStream os) throws TransformerConfigurationException {
+        // use the JDK serializer, the stylesheet factory is not shared between threads
+        SAXTransformerFactory factory = (SAXTransformerFactory) TransformerFactory.newDefaultInstance();
+        factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        TransformerHandler serializer = factory.newTransformerHandler();
+        // writes the report as the xsl:output of the stylesheet declares
+        Properties outputProperties = templates.getOutputProperties();
+        for (String key : OUTPUT_KEYS) {
+            String value = outputProperties.getProperty(key);
+            if (value != null) {
+                if (OutputKeys.CDATA_SECTION_ELEMENTS.equals(key)) {
+                    // elements without namespace could be in the {}name form
+                    value = value.replace("{}", "");
+                }
+                serializer.getTransformer().setOutputProperty(key, value);
+            }
+        }
+        serializer.setResult(new StreamResult(os));
+        return serializer;
+    }
+
+    /**
+     * Sends the events of the parent reader also to the validator.
+     * <p>
+     * The validator is a side branch, this way events are not augmented with
+     * schema default values and the stylesheet receives the same events of
+     * a non validating conversion.
+     */
+    private static final class ValidatingFilter extends XMLFilterImpl {
+        private final ValidatorHandler validator;
+
+        ValidatingFilter(XMLReader parent, ValidatorHandler validator) {
+            super(parent);
+            this.validator = validator;
+        }
+
+        @Override
+        public void parse(InputSource input) throws SAXException, IOException {
+            XMLReader parent = getParent();
+            parent.setContentHandler(new TeeContentHandler(validator, getContentHandler()));
+            if (getErrorHandler() != null) {
+                parent.setErrorHandler(getErrorHandler());
+            }
+            parent.parse(input);
+        }
+
+        @Override
+        public void parse(String systemId) throws SAXException, IOException {
+            parse(new InputSource(systemId));
+        }
+    }
+
+    /**
+     * Sends each event to a side branch and then to the main branch.
+     */
+    private static final class TeeContentHandler implements ContentHandler {
+        private final ContentHandler branch;
+        private final ContentHandler main;
+
+        TeeContentHandler(ContentHandler branch, ContentHandler main) {
+            this.branch = branch;
+            this.main = main;
+        }
+
+        @Override
+        public void setDocumentLocator(Locator locator) {
+            branch.setDocumentLocator(locator);
+            main.setDocumentLocator(locator);
+        }
+
+        @Override
+        public void startDocument() throws SAXException {
+            branch.startDocument();
+            main.startDocument();
+        }
+
+        @Override
+        public void endDocument() throws SAXException {
+            branch.endDocument();
+            main.endDocument();
+        }
+
+        @Override
+        public void startPrefixMapping(String prefix, String uri) throws SAXException {
+            branch.startPrefixMapping(prefix, uri);
+            main.startPrefixMapping(prefix, uri);
+        }
+
+        @Override
+        public void endPrefixMapping(String prefix) throws SAXException {
+            branch.endPrefixMapping(prefix);
+            main.endPrefixMapping(prefix);
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes atts) throws SAXException {
+            branch.startElement(uri, localName, qName, atts);
+            main.startElement(uri, localName, qName, atts);
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            branch.endElement(uri, localName, qName);
+            main.endElement(uri, localName, qName);
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) throws SAXException {
+            branch.characters(ch, start, length);
+            main.characters(ch, start, length);
+        }
+
+        @Override
+        public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+            branch.ignorableWhitespace(ch, start, length);
+            main.ignorableWhitespace(ch, start, length);
+        }
+
+        @Override
+        public void processingInstruction(String target, String data) throws SAXException {
+            branch.processingInstruction(target, data);
+            main.processingInstruction(target, data);
+        }
+
+        @Override
+        public void skippedEntity(String name) throws SAXException {
+            branch.skippedEntity(name);
+            main.skippedEntity(name);
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * A report found in the workspace together with the attributes read while
+ * the folder tree was walked.
+ *
+ * @author Nikolas Falco
+ */
+public final class ReportFile {
+    /**
+     * Value of size and last modified time when they have not been read.
+     */
+    public static final long UNKNOWN = -1;
+
+    private final String path;
+    private final long size;
+    private final long lastModified;
+
+    /**
+     * Default constructor.
+     *
+     * @param path the report path relative to the scanned folder
+     * @param size the report size in bytes
+     * @param lastModified the last modified time in milliseconds
+     */
+    public ReportFile(@NonNull String path, long size, long lastModified) {
+        this.path = path;
+        this.size = size;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Returns the report path relative to the scanned folder.
+     *
+     * @return the relative path
+     */
+    @NonNull
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the report size, following symbolic links.
+     *
+     * @return the size in bytes or {@link #UNKNOWN}
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the report last modified time, following symbolic links.
+     *
+     * @return the time in milliseconds or {@link #UNKNOWN}
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Returns the relative paths of the given reports.
+     *
+     * @param reports the reports
+     * @return the relative path of each report
+     */
+    @NonNull
+    public static String[] toPaths(@NonNull ReportFile[] reports) {
+        String[] paths = new String[reports.length];
+        for (int i = 0; i < reports.length; i++) {
+            paths[i] = reports[i].path;
+        }
+        return paths;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
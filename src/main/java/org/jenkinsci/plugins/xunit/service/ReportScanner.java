@@ -0,0 +1,360 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.apache.tools.ant.DirectoryScanner;
+import org.apache.tools.ant.types.selectors.SelectorUtils;
+import org.apache.tools.ant.types.selectors.TokenizedPath;
+import org.apache.tools.ant.types.selectors.TokenizedPattern;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Finds the files that match Ant include and exclude patterns walking the
+ * folder tree in parallel.
+ * <p>
+ * Patterns have the same semantic of the {@link DirectoryScanner} used by
+ * {@link hudson.Util#createFileSet(File, String, String)}, default excludes
+ * included, and the returned relative paths are sorted the same way. Folders
+ * that could not contain an included file, because they do not match the
+ * static prefix of any include pattern or they are excluded with all their
+ * content, are never listed.
+ * <p>
+ * More pattern sets could be given, in this case the folder tree is walked
+ * only once and each path is matched against every set.
+ * <p>
+ * Listing folders blocks on the file system, so each scan runs on its own
+ * pool bounded by the given parallelism instead of the common pool.
+ *
+ * @author Nikolas Falco
+ */
+final class ReportScanner {
+
+    /**
+     * The include and exclude patterns of a single file set.
+     */
+    static final class Selector {
+        private final TokenizedPattern[] includes;
+        private final TokenizedPattern[] excludes;
+        private final TokenizedPattern[] excludedTrees;
+
+        /**
+         * Default constructor.
+         *
+         * @param includes comma separated include patterns
+         * @param excludes comma separated exclude patterns, could be
+         *        {@code null}
+         */
+        Selector(@NonNull String includes, @CheckForNull String excludes) {
+            this.includes = tokenize(includes).toArray(new TokenizedPattern[0]);
+
+            List<TokenizedPattern> excludePatterns = tokenize(excludes);
+            for (String defaultExclude : DirectoryScanner.getDefaultExcludes()) {
+                excludePatterns.add(new TokenizedPattern(normalizePattern(defaultExclude)));
+            }
+            this.excludes = excludePatterns.toArray(new TokenizedPattern[0]);
+
+            List<TokenizedPattern> trees = new ArrayList<>();
+            for (TokenizedPattern exclude : excludePatterns) {
+                if (exclude.endsWith(SelectorUtils.DEEP_TREE_MATCH)) {
+                    trees.add(exclude.withoutLastToken());
+                }
+            }
+            this.excludedTrees = trees.toArray(new TokenizedPattern[0]);
+        }
+
+        private boolean isSelected(TokenizedPath path) {
+            return matchAny(includes, path) && !matchAny(excludes, path);
+        }
+
+        private boolean couldHoldSelected(TokenizedPath path) {
+            if (matchAny(excludedTrees, path)) {
+                return false;
+            }
+            for (TokenizedPattern include : includes) {
+                if (include.matchStartOf(path, true)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean matchAny(TokenizedPattern[] patterns, TokenizedPath path) {
+            for (TokenizedPattern pattern : patterns) {
+                if (pattern.matchPath(path, true)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final Selector[] selectors;
+    private final boolean followSymlinks;
+    private int parallelism = 1;
+
+    /**
+     * Default constructor.
+     *
+     * @param includes comma separated include patterns
+     * @param excludes comma separated exclude patterns, could be {@code null}
+     * @param followSymlinks if symbolic links must be followed, otherwise
+     *        they are ignored
+     */
+    ReportScanner(@NonNull String includes, @CheckForNull String excludes, boolean followSymlinks) {
+        this(Collections.singletonList(new Selector(includes, excludes)), followSymlinks);
+    }
+
+    /**
+     * Constructor for more file sets found with a single walk.
+     *
+     * @param selectors the patterns of each file set
+     * @param followSymlinks if symbolic links must be followed, otherwise
+     *        they are ignored
+     */
+    ReportScanner(@NonNull List<Selector> selectors, boolean followSymlinks) {
+        this.selectors = selectors.toArray(new Selector[0]);
+        this.followSymlinks = followSymlinks;
+    }
+
+    /**
+     * Sets the maximum number of folders listed at the same time.
+     *
+     * @param parallelism the number of threads that walk the folder tree
+     */
+    void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Returns the files that match the patterns of the first file set.
+     *
+     * @param baseDir the folder from where start the search
+     * @return the path of matching files relative to the given folder
+     */
+    @NonNull
+    String[] scan(@NonNull File baseDir) {
+        return ReportFile.toPaths(scanAll(baseDir)[0]);
+    }
+
+    /**
+     * Returns the files that match the patterns of each file set.
+     *
+     * @param baseDir the folder from where start the search
+     * @return for each file set, in the same order of the selectors, the
+     *         matching files with path relative to the given folder
+     */
+    @NonNull
+    ReportFile[][] scanAll(@NonNull File baseDir) {
+        ReportFile[][] result = new ReportFile[selectors.length][];
+        Arrays.fill(result, new ReportFile[0]);
+
+        Path root = baseDir.toPath();
+        if (!Files.isDirectory(root)) {
+            return result;
+        }
+        Set<Path> ancestors = new HashSet<>();
+        try {
+            ancestors.add(root.toRealPath());
+        } catch (IOException e) {
+            // unreadable folders are skipped as DirectoryScanner does
+            return result;
+        }
+        List<List<ReportFile>> files;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            files = pool.invoke(new ScanTask(this, root, null, TokenizedPath.EMPTY_PATH, ancestors));
+        } finally {
+            pool.shutdown();
+        }
+        for (int i = 0; i < selectors.length; i++) {
+            result[i] = files.get(i).toArray(new ReportFile[0]);
+            // DirectoryScanner returns sorted paths
+            Arrays.sort(result[i], Comparator.comparing(ReportFile::getPath));
+        }
+        return result;
+    }
+
+    private static List<TokenizedPattern> tokenize(@CheckForNull String patterns) {
+        List<TokenizedPattern> result = new ArrayList<>();
+        if (patterns != null) {
+            // same tokenisation of hudson.Util#createFileSet
+            StringTokenizer tokens = new StringTokenizer(patterns, ",");
+            while (tokens.hasMoreTokens()) {
+                String token = tokens.nextToken().trim();
+                if (!token.isEmpty()) {
+                    result.add(new TokenizedPattern(normalizePattern(token)));
+                }
+            }
+        }
+        return result;
+    }
+
+    /*
+     * Same normalisation applied by DirectoryScanner.
+     */
+    private static String normalizePattern(String pattern) {
+        String p = pattern.replace('/', File.separatorChar).replace('\\', File.separatorChar);
+        if (p.endsWith(File.separator)) {
+            p += SelectorUtils.DEEP_TREE_MATCH;
+        }
+        return p;
+    }
+
+    private boolean couldHoldSelected(TokenizedPath path) {
+        for (Selector selector : selectors) {
+            if (selector.couldHoldSelected(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lists a folder and forks a task for each sub folder that could contain
+     * included files.
+     */
+    private static final class ScanTask extends RecursiveTask<List<List<ReportFile>>> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient ReportScanner scanner;
+        private final transient Path dir;
+        private final String relativePath;
+        private final transient TokenizedPath tokenizedPath;
+        private final transient Set<Path> ancestors;
+
+        ScanTask(ReportScanner scanner, Path dir, String relativePath, TokenizedPath tokenizedPath, Set<Path> ancestors) {
+            this.scanner = scanner;
+            this.dir = dir;
+            this.relativePath = relativePath;
+            this.tokenizedPath = tokenizedPath;
+            this.ancestors = ancestors;
+        }
+
+        @Override
+        protected List<List<ReportFile>> compute() {
+            List<List<ReportFile>> files = new ArrayList<>(scanner.selectors.length);
+            for (int i = 0; i < scanner.selectors.length; i++) {
+                files.add(new ArrayList<>());
+            }
+            List<ScanTask> subTasks = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+                for (Path child : stream) {
+                    String name = child.getFileName().toString();
+                    BasicFileAttributes attrs = readAttributes(child);
+                    if (attrs == null) {
+                        continue;
+                    }
+
+                    String childRelativePath = relativePath == null ? name : relativePath + File.separatorChar + name;
+                    TokenizedPath childPath = new TokenizedPath(tokenizedPath, name);
+                    if (attrs.isDirectory()) {
+                        if (!scanner.couldHoldSelected(childPath)) {
+                            continue;
+                        }
+                        Set<Path> childAncestors = ancestors;
+                        if (scanner.followSymlinks) {
+                            Path realPath = realPath(child);
+                            if (realPath == null || ancestors.contains(realPath)) {
+                                // symbolic link loop
+                                continue;
+                            }
+                            childAncestors = new HashSet<>(ancestors);
+                            childAncestors.add(realPath);
+                        }
+                        ScanTask task = new ScanTask(scanner, child, childRelativePath, childPath, childAncestors);
+                        task.fork();
+                        subTasks.add(task);
+                    } else if (attrs.isRegularFile()) {
+                        ReportFile report = null;
+                        for (int i = 0; i < scanner.selectors.length; i++) {
+                            if (scanner.selectors[i].isSelected(childPath)) {
+                                if (report == null) {
+                                    // attributes are read once, later checks do not touch the file system again
+                                    report = new ReportFile(childRelativePath, attrs.size(), attrs.lastModifiedTime().toMillis());
+                                }
+                                files.get(i).add(report);
+                            }
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                // unreadable folders are skipped as DirectoryScanner does
+            }
+
+            for (ScanTask task : subTasks) {
+                List<List<ReportFile>> subFiles = task.join();
+                for (int i = 0; i < files.size(); i++) {
+                    files.get(i).addAll(subFiles.get(i));
+                }
+            }
+            return files;
+        }
+
+        @CheckForNull
+        private static Path realPath(Path child) {
+            try {
+                return child.toRealPath();
+            } catch (IOException e) {
+                // folder removed meanwhile
+                return null;
+            }
+        }
+
+        @CheckForNull
+        private BasicFileAttributes readAttributes(Path child) {
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(child, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                if (attrs.isSymbolicLink()) {
+                    // not followed symbolic links are excluded as DirectoryScanner does
+                    return scanner.followSymlinks ? Files.readAttributes(child, BasicFileAttributes.class) : null;
+                }
+                return attrs;
+            } catch (IOException e) {
+                // broken link or file removed meanwhile
+                return null;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.Validator;
+
+import org.jenkinsci.lib.dtkit.model.AbstractOutputMetric;
+import org.jenkinsci.lib.dtkit.model.InputMetric;
+import org.jenkinsci.lib.dtkit.model.InputMetricXSL;
+import org.jenkinsci.lib.dtkit.model.OutputMetric;
+import org.jenkinsci.plugins.xunit.types.JUnitInputMetric;
+import org.jenkinsci.plugins.xunit.types.model.JUnit10;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * JVM wide cache of compiled XSD schemas.
+ * <p>
+ * A compiled {@link Schema} is thread safe and immutable, so each report only
+ * needs a new {@link Validator}. Entries are identified by the location of the
+ * XSD resources, that are bundled with the plugin and so never change while
+ * the JVM is running.
+ *
+ * @author Nikolas Falco
+ */
+final class XSDSchemaCache {
+
+    private static final XSDSchemaCache INSTANCE = new XSDSchemaCache();
+
+    private final Map<String, Schema> schemas = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> defaultValidations = new ConcurrentHashMap<>();
+
+    static XSDSchemaCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the compiled schema, compiling it on the first request.
+     *
+     * @param resourceClass the class used to resolve the XSD resources
+     * @param xsdNames the XSD resources that compose the schema
+     * @return the compiled schema or {@code null} if some XSD resource does not
+     *         exist
+     * @throws SAXException if the schema could not be compiled
+     */
+    @CheckForNull
+    Schema getSchema(@NonNull Class<?> resourceClass, @NonNull String[] xsdNames) throws SAXException {
+        URL[] resources = new URL[xsdNames.length];
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < xsdNames.length; i++) {
+            resources[i] = resourceClass.getResource(xsdNames[i]);
+            if (resources[i] == null) {
+                return null;
+            }
+            key.append(resources[i].toExternalForm()).append('|');
+        }
+
+        Schema schema = schemas.get(key.toString());
+        if (schema == null) {
+            // compile outside any lock, concurrent compilations of the same
+            // schema are harmless and the first one wins
+            StreamSource[] sources = new StreamSource[resources.length];
+            for (int i = 0; i < resources.length; i++) {
+                sources[i] = new StreamSource(resources[i].toExternalForm());
+            }
+            Schema newSchema = SchemaFactory.newDefaultInstance().newSchema(sources);
+            schema = schemas.putIfAbsent(key.toString(), newSchema);
+            if (schema == null) {
+                schema = newSchema;
+            }
+        }
+        return schema;
+    }
+
+    int size() {
+        return schemas.size();
+    }
+
+    /**
+     * Gets the schema used to validate the input reports of the given metric.
+     *
+     * @param inputMetric the metric
+     * @return the compiled schema or {@code null} if the metric validates
+     *         reports by itself
+     * @throws SAXException if the schema could not be compiled
+     */
+    @CheckForNull
+    Schema forInput(@NonNull InputMetric inputMetric) throws SAXException {
+        if (inputMetric instanceof InputMetricXSL inputMetricXSL && usesDefaultValidation(inputMetric, "validateInputFile", InputMetricXSL.class)) {
+            String[] xsdNames = inputMetricXSL.getInputXsdNameList();
+            return xsdNames != null ? getSchema(inputMetric.getClass(), xsdNames) : null;
+        } else if (inputMetric instanceof JUnitInputMetric && usesDefaultValidation(inputMetric, "validateInputFile", JUnitInputMetric.class)) {
+            return getSchema(JUnit10.class, new JUnit10().getXsdNameList());
+        }
+        return null;
+    }
+
+    /**
+     * Gets the schema used to validate the converted reports of the given
+     * metric.
+     *
+     * @param inputMetric the metric
+     * @return the compiled schema or {@code null} if the metric validates
+     *         reports by itself
+     * @throws SAXException if the schema could not be compiled
+     */
+    @CheckForNull
+    Schema forOutput(@NonNull InputMetric inputMetric) throws SAXException {
+        if (inputMetric instanceof InputMetricXSL inputMetricXSL && usesDefaultValidation(inputMetric, "validateOutputFile", InputMetricXSL.class)) {
+            OutputMetric outputMetric = inputMetricXSL.getOutputFormatType();
+            if (outputMetric instanceof AbstractOutputMetric abstractOutputMetric && abstractOutputMetric.getXsdNameList() != null) {
+                return getSchema(outputMetric.getClass(), abstractOutputMetric.getXsdNameList());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Validates the given file against the schema.
+     *
+     * @param schema the compiled schema
+     * @param file the file to validate
+     * @return the validation errors, empty if the file is valid
+     * @throws IOException if the file could not be read
+     */
+    @NonNull
+    List<String> validate(@NonNull Schema schema, @NonNull File file) throws IOException {
+        ErrorCollector errors = new ErrorCollector();
+        Validator validator = schema.newValidator();
+        validator.setErrorHandler(errors);
+        try {
+            validator.validate(new SAXSource(XSLTemplatesCache.newReader(), new InputSource(file.toURI().toASCIIString())));
+        } catch (SAXParseException e) {
+            if (errors.getErrors().isEmpty()) {
+                errors.add(e);
+            }
+        } catch (SAXException e) {
+            errors.getErrors().add(e.getMessage());
+        }
+        return errors.getErrors();
+    }
+
+    private boolean usesDefaultValidation(InputMetric inputMetric, String method, Class<?> defaultImplementation) {
+        Class<?> clazz = inputMetric.getClass();
+        return defaultValidations.computeIfAbsent(clazz.getName() + '#' + method, k -> {
+            try {
+                return clazz.getMethod(method, File.class).getDeclaringClass().isAssignableFrom(defaultImplementation);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Collects the errors reported by a validator.
+     */
+    static final class ErrorCollector implements ErrorHandler {
+        private final List<String> errors = new ArrayList<>();
+
+        List<String> getErrors() {
+            return errors;
+        }
+
+        void add(SAXParseException e) {
+            errors.add("line " + e.getLineNumber() + ", column " + e.getColumnNumber() + ": " + e.getMessage());
+        }
+
+        @Override
+        public void warning(SAXParseException exception) {
+            // warnings do not invalidate the report
+        }
+
+        @Override
+        public void error(SAXParseException exception) {
+            add(exception);
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) {
+            add(exception);
+        }
+    }
+
+}
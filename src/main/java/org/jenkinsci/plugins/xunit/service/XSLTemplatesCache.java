@@ -0,0 +1,287 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamSource;
+
+import org.apache.commons.io.IOUtils;
+import org.jenkinsci.lib.dtkit.model.InputMetricXSL;
+import org.jenkinsci.lib.dtkit.util.converter.ConversionException;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Util;
+
+/**
+ * JVM wide cache of compiled stylesheets.
+ * <p>
+ * A compiled {@link Templates} is thread safe so the same instance can be
+ * shared by all conversions that run on the same node. Entries are identified
+ * by the tool name and the digest of the stylesheet content, this way user or
+ * custom stylesheets that change between builds produce a new entry. The least
+ * recently used entries are evicted when the cache exceeds its capacity.
+ *
+ * @author Nikolas Falco
+ */
+final class XSLTemplatesCache {
+
+    private static final String SAXON_FACTORY = "net.sf.saxon.TransformerFactoryImpl";
+
+    static final int MAX_ENTRIES = Math.max(1, Integer.getInteger(XSLTemplatesCache.class.getName() + ".maxEntries", 64));
+
+    private static final XSLTemplatesCache INSTANCE = new XSLTemplatesCache(MAX_ENTRIES);
+
+    /**
+     * Stylesheet to compile, identified by tool name and content digest.
+     */
+    static final class Stylesheet {
+        private final String key;
+        private final byte[] content;
+        private final String text;
+        private final String systemId;
+
+        private Stylesheet(String toolName, byte[] content, String systemId) {
+            this.key = toolName + '@' + digest(content);
+            this.content = content;
+            this.text = null;
+            this.systemId = systemId;
+        }
+
+        private Stylesheet(String toolName, String text) {
+            this.key = toolName + '@' + digest(text.getBytes(StandardCharsets.UTF_8));
+            this.content = null;
+            this.text = text;
+            this.systemId = null;
+        }
+
+        String getKey() {
+            return key;
+        }
+
+        Source newSource() {
+            if (text != null) {
+                // the content has been already decoded
+                return new StreamSource(new StringReader(text));
+            }
+            return new StreamSource(new ByteArrayInputStream(content), systemId);
+        }
+    }
+
+    private final Map<String, Templates> entries;
+    /* the embedded stylesheets never change while the JVM is running */
+    private final Map<String, Stylesheet> embedded = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Boolean> cacheableMetrics = new ConcurrentHashMap<>();
+
+    XSLTemplatesCache(final int maxEntries) {
+        this.entries = new LinkedHashMap<String, Templates>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Templates> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    static XSLTemplatesCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns if the given metric uses the default dtkit conversion so that
+     * its stylesheet could be compiled once and reused.
+     *
+     * @param inputMetric the metric to check
+     * @return {@code true} if the metric does not customise the conversion
+     */
+    boolean isCacheable(@NonNull InputMetricXSL inputMetric) {
+        return cacheableMetrics.computeIfAbsent(inputMetric.getClass(), clazz -> {
+            try {
+                return clazz.getMethod("convert", File.class, File.class, Map.class).getDeclaringClass().isAssignableFrom(InputMetricXSL.class);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Gets the compiled stylesheet, compiling it on the first request.
+     *
+     * @param stylesheet the stylesheet to compile
+     * @return the compiled stylesheet
+     * @throws ConversionException if the stylesheet could not be compiled
+     */
+    @NonNull
+    Templates getTemplates(@NonNull Stylesheet stylesheet) {
+        Templates templates;
+        synchronized (entries) {
+            templates = entries.get(stylesheet.getKey());
+        }
+        if (templates == null) {
+            // compile outside the lock, concurrent compilations of the same
+            // stylesheet are harmless and the last one wins
+            templates = compile(stylesheet);
+            synchronized (entries) {
+                entries.put(stylesheet.getKey(), templates);
+            }
+        }
+        return templates;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Gets the stylesheet for a user content or custom XSL.
+     *
+     * @param toolName the tool name of the metric
+     * @param xslContent the stylesheet content
+     * @return the stylesheet
+     */
+    @NonNull
+    Stylesheet forContent(@NonNull String toolName, @NonNull String xslContent) {
+        return new Stylesheet(toolName, xslContent);
+    }
+
+    /**
+     * Gets the stylesheet provided by the metric itself.
+     *
+     * @param inputMetric the metric
+     * @return the stylesheet
+     * @throws IOException if the stylesheet could not be read
+     */
+    @NonNull
+    Stylesheet forMetric(@NonNull InputMetricXSL inputMetric) throws IOException {
+        File xslFile = inputMetric.getXslFile();
+        if (xslFile != null) {
+            return new Stylesheet(inputMetric.getToolName(), Files.readAllBytes(xslFile.toPath()), xslFile.toURI().toASCIIString());
+        }
+
+        Class<?> resourceClass = inputMetric.getXslResourceClass();
+        String xslName = inputMetric.getXslName();
+        if (resourceClass == null || xslName == null) {
+            throw new IOException("No stylesheet defined for " + inputMetric.getToolName());
+        }
+        try {
+            return embedded.computeIfAbsent(resourceClass.getName() + '/' + xslName, k -> {
+                URL resource = resourceClass.getResource(xslName);
+                if (resource == null) {
+                    throw new IllegalStateException("Stylesheet " + xslName + " not found for " + inputMetric.getToolName());
+                }
+                try (InputStream is = resource.openStream()) {
+                    return new Stylesheet(inputMetric.getToolName(), IOUtils.toByteArray(is), resource.toExternalForm());
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } catch (IllegalStateException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Creates a source for the given report that does not resolve external
+     * entities.
+     *
+     * @param inputFile the report to read
+     * @return a source for the transformer
+     * @throws ConversionException if the XML parser could not be configured
+     */
+    @NonNull
+    static Source newSource(@NonNull File inputFile) {
+        return new SAXSource(newReader(), new InputSource(inputFile.toURI().toASCIIString()));
+    }
+
+    /**
+     * Creates a namespace aware XML reader that does not resolve external
+     * entities.
+     *
+     * @return a new XML reader
+     * @throws ConversionException if the XML parser could not be configured
+     */
+    @NonNull
+    static XMLReader newReader() {
+        try {
+            SAXParserFactory factory = SAXParserFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            return factory.newSAXParser().getXMLReader();
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new ConversionException(e);
+        }
+    }
+
+    private Templates compile(Stylesheet stylesheet) {
+        try {
+            TransformerFactory factory = TransformerFactory.newInstance(SAXON_FACTORY, XSLTemplatesCache.class.getClassLoader());
+            return factory.newTemplates(stylesheet.newSource());
+        } catch (TransformerConfigurationException e) {
+            throw new ConversionException(e);
+        }
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            return Util.toHexString(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory for every JVM implementation
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
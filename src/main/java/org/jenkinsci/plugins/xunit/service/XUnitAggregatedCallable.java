@@ -0,0 +1,326 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.tools.ant.DirectoryScanner;
+import org.apache.tools.ant.types.FileSet;
+import org.jenkinsci.plugins.xunit.XUnitDefaultValues;
+import org.jenkinsci.plugins.xunit.jfr.ResultParsingEvent;
+import org.jenkinsci.plugins.xunit.jfr.XUnitEvent;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.Util;
+import hudson.remoting.VirtualChannel;
+import hudson.tasks.junit.TestResult;
+import hudson.tasks.test.PipelineTestDetails;
+import jenkins.MasterToSlaveFileCallable;
+
+/**
+ * Converts the reports of all tools, parses the converted reports and removes
+ * them with a single call to the node that owns the workspace.
+ *
+ * @author Nikolas Falco
+ */
+public class XUnitAggregatedCallable extends MasterToSlaveFileCallable<XUnitAggregatedCallable.Result> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The test result of all tools and the number of processed reports for
+     * each tool.
+     */
+    public static final class Result implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final TestResult testResult;
+        private final int[] processedReports;
+
+        Result(@CheckForNull TestResult testResult, @NonNull int[] processedReports) {
+            this.testResult = testResult;
+            this.processedReports = processedReports;
+        }
+
+        /**
+         * Returns the test result of all converted reports.
+         *
+         * @return the test result or {@code null} if no report has been
+         *         converted
+         */
+        @CheckForNull
+        public TestResult getTestResult() {
+            return testResult;
+        }
+
+        /**
+         * Returns the number of processed reports of a tool.
+         *
+         * @param tool the index of the tool
+         * @return the number of processed reports
+         */
+        public int getProcessedReports(int tool) {
+            return processedReports[tool];
+        }
+
+        public int getTotalProcessedReports() {
+            return Arrays.stream(processedReports).sum();
+        }
+    }
+
+    private final List<XUnitTransformerCallable> transformers;
+    private final List<String> toolDisplayNames;
+    private final XUnitLog xUnitLog;
+    private final String processorId;
+    private final long buildTime;
+    private final long nowMaster;
+    private final boolean keepLongStdio;
+    private final PipelineTestDetails pipelineTestDetails;
+    private boolean passthrough;
+    private boolean directResults;
+    private boolean sharedScan;
+    private PhaseTimings timings;
+    private List<String> deletedToolNames = Collections.emptyList();
+    private boolean keepJUnitDirectory;
+
+    /**
+     * Default constructor.
+     *
+     * @param transformers the transformer of each tool, {@code null} for tools
+     *        that have nothing to process
+     * @param toolDisplayNames the display name of each tool
+     * @param xUnitLog the build logger
+     * @param processorId the identifier of the generated JUnit folder
+     * @param buildTime the build start time
+     * @param nowMaster the current time on the controller
+     * @param keepLongStdio if keep long standard output and error
+     * @param pipelineTestDetails pipeline test details, can be null
+     */
+    public XUnitAggregatedCallable(@NonNull List<XUnitTransformerCallable> transformers,
+                                   @NonNull List<String> toolDisplayNames,
+                                   @NonNull XUnitLog xUnitLog,
+                                   @NonNull String processorId,
+                                   long buildTime,
+                                   long nowMaster,
+                                   boolean keepLongStdio,
+                                   @CheckForNull PipelineTestDetails pipelineTestDetails) {
+        this.transformers = new ArrayList<>(transformers);
+        this.toolDisplayNames = new ArrayList<>(toolDisplayNames);
+        this.xUnitLog = xUnitLog;
+        this.processorId = processorId;
+        this.buildTime = buildTime;
+        this.nowMaster = nowMaster;
+        this.keepLongStdio = keepLongStdio;
+        this.pipelineTestDetails = pipelineTestDetails;
+    }
+
+    public void setPassthrough(boolean passthrough) {
+        this.passthrough = passthrough;
+    }
+
+    /**
+     * Sets if converted reports must be staged in the temporary folder of the
+     * node instead of the workspace.
+     *
+     * @param directResults {@code true} to never write the workspace
+     */
+    public void setDirectResults(boolean directResults) {
+        this.directResults = directResults;
+    }
+
+    /**
+     * Sets if the reports of all tools must be found walking the workspace
+     * only once.
+     *
+     * @param sharedScan {@code true} to match each path against the patterns
+     *        of every tool in a single walk
+     */
+    public void setSharedScan(boolean sharedScan) {
+        this.sharedScan = sharedScan;
+    }
+
+    /**
+     * Sets where the parsing phase is recorded.
+     *
+     * @param timings the timings shared with the transformers, {@code null}
+     *        if phases are not measured
+     */
+    public void setTimings(@CheckForNull PhaseTimings timings) {
+        this.timings = timings;
+    }
+
+    /**
+     * Sets the generated JUnit reports to remove once parsed.
+     *
+     * @param deletedToolNames the tools whose converted reports are deleted
+     * @param keepJUnitDirectory {@code true} if some tool keeps its converted
+     *        reports
+     */
+    public void setDeletion(@NonNull List<String> deletedToolNames, boolean keepJUnitDirectory) {
+        this.deletedToolNames = new ArrayList<>(deletedToolNames);
+        this.keepJUnitDirectory = keepJUnitDirectory;
+    }
+
+    /**
+     * Invocation
+     *
+     * @param ws the Jenkins workspace
+     * @param channel the Jenkins channel
+     * @return the test result and the number of processed reports per tool
+     * @throws IOException in case an error occurs during communication with the
+     *         Jenkins node where this callable is executed.
+     * @throws TransformerException in case an error occurs when test reports
+     *         are transformed into JUnit report.
+     */
+    @Override
+    public Result invoke(File ws, VirtualChannel channel) throws IOException, InterruptedException {
+        final long nowSlave = System.currentTimeMillis();
+        File junitOutputDir = directResults ? Files.createTempDirectory("xunit").toFile() : new File(new File(ws, XUnitDefaultValues.GENERATED_JUNIT_DIR), processorId);
+        try {
+            FileUtils.forceMkdir(junitOutputDir);
+
+            ReportFile[][] scannedFiles = sharedScan ? scan(ws) : null;
+
+            int[] processedReports = new int[transformers.size()];
+            for (int i = 0; i < transformers.size(); i++) {
+                XUnitTransformerCallable transformer = transformers.get(i);
+                xUnitLog.info("Processing " + toolDisplayNames.get(i));
+                if (transformer == null) {
+                    continue;
+                }
+                try {
+                    processedReports[i] = transformer.transform(ws, junitOutputDir, scannedFiles != null ? scannedFiles[i] : null);
+                } catch (NoTestFoundException e) {
+                    if (!transformer.getToolInfo().isSkipNoTestFiles()) {
+                        throw e;
+                    }
+                    xUnitLog.info(e.getMessage());
+                }
+            }
+
+            TestResult testResult = null;
+            if (Arrays.stream(processedReports).sum() > 0) {
+                PhaseTimings.Sample sample = PhaseTimings.start();
+                ResultParsingEvent event = new ResultParsingEvent();
+                event.begin();
+                testResult = parse(junitOutputDir, buildTime + (nowSlave - nowMaster));
+                if (event.shouldCommit()) {
+                    if (testResult != null) {
+                        testResult.tally();
+                        event.setTestCount(testResult.getTotalCount());
+                    }
+                    event.setOutcome(testResult != null ? XUnitEvent.SUCCESS : XUnitEvent.SKIPPED);
+                    event.commit();
+                }
+                if (timings != null) {
+                    timings.stop(sample, null, PhaseTimings.Phase.PARSING);
+                }
+                cleanup(junitOutputDir);
+            }
+            return new Result(testResult, processedReports);
+        } finally {
+            if (directResults) {
+                FileUtils.deleteQuietly(junitOutputDir);
+            }
+        }
+    }
+
+    /*
+     * Finds the reports of all tools with a single walk, tools that do not
+     * share the symbolic link option are searched by their own. The walk uses
+     * the highest parallelism of the tools.
+     */
+    @CheckForNull
+    private ReportFile[][] scan(File ws) {
+        List<ReportScanner.Selector> selectors = new ArrayList<>();
+        Boolean followSymlink = null;
+        int parallelism = 1;
+        for (XUnitTransformerCallable transformer : transformers) {
+            if (transformer == null) {
+                // a selector that never matches keeps the tool index
+                selectors.add(new ReportScanner.Selector("", null));
+                continue;
+            }
+            XUnitToolInfo toolInfo = transformer.getToolInfo();
+            if (followSymlink != null && followSymlink != toolInfo.isFollowSymlink()) {
+                return null;
+            }
+            followSymlink = toolInfo.isFollowSymlink();
+            parallelism = Math.max(parallelism, toolInfo.getParallelism());
+            selectors.add(new ReportScanner.Selector(toolInfo.getPattern(), toolInfo.getExcludesPattern()));
+        }
+        if (followSymlink == null) {
+            return null;
+        }
+        ReportScanner scanner = new ReportScanner(selectors, followSymlink);
+        scanner.setParallelism(parallelism);
+        return scanner.scanAll(ws);
+    }
+
+    @CheckForNull
+    private TestResult parse(File junitOutputDir, long buildTime) throws IOException {
+        FileSet fs = Util.createFileSet(junitOutputDir, "**/" + XUnitDefaultValues.JUNIT_FILE_PREFIX + "*" + XUnitDefaultValues.JUNIT_FILE_EXTENSION);
+        DirectoryScanner ds = fs.getDirectoryScanner();
+        if (ds.getIncludedFilesCount() == 0) {
+            return null;
+        }
+
+        if (passthrough || directResults) {
+            // linked reports keep the timestamp of the original report,
+            // all reports in this folder have been already checked
+            List<File> reports = new ArrayList<>();
+            for (String report : ds.getIncludedFiles()) {
+                reports.add(new File(junitOutputDir, report));
+            }
+            TestResult result = new TestResult(keepLongStdio);
+            result.parse(buildTime, reports, pipelineTestDetails);
+            return result;
+        }
+        return new TestResult(buildTime, ds, keepLongStdio, pipelineTestDetails);
+    }
+
+    private void cleanup(File junitOutputDir) {
+        if (directResults) {
+            return;
+        }
+        for (String toolName : deletedToolNames) {
+            FileUtils.deleteQuietly(new File(junitOutputDir, toolName));
+        }
+        if (!keepJUnitDirectory) {
+            FileUtils.deleteQuietly(junitOutputDir);
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serial;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.FilePath.FileCallable;
+import hudson.remoting.VirtualChannel;
+import jenkins.MasterToSlaveFileCallable;
+
+/**
+ * Runs a callable on the node batching the messages it logs, so that they
+ * travel back to the build console in few writes.
+ * <p>
+ * The given logger must be the same instance used by the wrapped callable,
+ * this way they are serialised once and the callable logs on the instance
+ * buffered by this one.
+ *
+ * @param <T> the type of the wrapped callable result
+ * @author Nikolas Falco
+ */
+public class XUnitBufferedLogCallable<T> extends MasterToSlaveFileCallable<T> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final FileCallable<T> callable;
+    private final XUnitLog xUnitLog;
+
+    /**
+     * Default constructor.
+     *
+     * @param callable the callable to run
+     * @param xUnitLog the logger used by the callable
+     */
+    public XUnitBufferedLogCallable(@NonNull FileCallable<T> callable, @NonNull XUnitLog xUnitLog) {
+        this.callable = callable;
+        this.xUnitLog = xUnitLog;
+    }
+
+    @Override
+    public T invoke(File ws, VirtualChannel channel) throws IOException, InterruptedException {
+        xUnitLog.startBuffering();
+        try {
+            return callable.invoke(ws, channel);
+        } finally {
+            xUnitLog.stopBuffering();
+        }
+    }
+
+}
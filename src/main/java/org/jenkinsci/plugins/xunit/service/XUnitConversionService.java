@@ -26,10 +26,19 @@ package org.jenkinsci.plugins.xunit.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.xml.transform.Templates;
+import javax.xml.transform.stream.StreamResult;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import jakarta.inject.Inject;
 
 import org.apache.commons.io.FileUtils;
@@ -37,12 +46,18 @@ import org.jenkinsci.lib.dtkit.model.InputMetric;
 import org.jenkinsci.lib.dtkit.model.InputMetricXSL;
 import org.jenkinsci.lib.dtkit.util.converter.ConversionException;
 import org.jenkinsci.plugins.xunit.XUnitDefaultValues;
+import org.jenkinsci.plugins.xunit.types.JUnitInputMetric;
 
 public class XUnitConversionService implements Serializable {
     @Serial
     private static final long serialVersionUID = 6019846684040298718L;
 
     private XUnitLog xUnitLog;
+    /* schemas are compiled once for all reports of the tool */
+    private transient PipelinedConversion pipelinedConversion;
+    private transient boolean pipelinedConversionResolved;
+    private final AtomicInteger cacheHits = new AtomicInteger();
+    private final AtomicInteger cacheMisses = new AtomicInteger();
 
     @Inject
     public XUnitConversionService(XUnitLog xUnitLog) {
@@ -73,8 +88,10 @@ public class XUnitConversionService implements Serializable {
         try {
             if (inputMetric instanceof InputMetricXSL && xUnitToolInfo.getXSLFile() != null) {
                 convertCustomMetric(xUnitToolInfo, inputFile, inputMetric, junitTargetFile);
+            } else if (xUnitToolInfo.isPassthrough() && isPassthrough(inputMetric)) {
+                link(inputFile, junitTargetFile);
             } else {
-                inputMetric.convert(inputFile, junitTargetFile);
+                convertMetric(xUnitToolInfo, inputFile, inputMetric, junitTargetFile);
             }
             return junitTargetFile;
 
@@ -84,18 +101,200 @@ public class XUnitConversionService implements Serializable {
         }
     }
 
-    private void convertCustomMetric(XUnitToolInfo xUnitToolInfo, File inputFile, InputMetric inputMetric, File junitTargetFile) {
+    /**
+     * Validates the inputFile, converts it into a JUnit output file and
+     * validates the converted file reading the inputFile only once.
+     *
+     * @param xUnitToolInfo
+     *            the xUnit info wrapper object
+     * @param inputFile
+     *            the input file to be converted
+     * @param junitOutputDirectory
+     *            the output parent directory that contains the JUnit output
+     *            file
+     * @return the outcome of the conversion or {@code null} if the metric of
+     *         the tool does not support the pipelined conversion
+     * @throws TransformerException when conversion errors occurs.
+     * @throws IOException when converted reports could not be created or written.
+     */
+    @CheckForNull
+    public PipelinedConversion.Result convertPipelined(XUnitToolInfo xUnitToolInfo, File inputFile, File junitOutputDirectory) throws IOException {
+        InputMetric inputMetric = xUnitToolInfo.getInputMetric();
+        // user content stylesheet could fail and fallback on the embedded one
+        if (xUnitToolInfo.getXSLFile() != null) {
+            return null;
+        }
+
+        PipelinedConversion conversion = getPipelinedConversion(inputMetric);
+        if (conversion == null) {
+            return null;
+        }
+
+        File parent = new File(junitOutputDirectory, inputMetric.getToolName());
+        FileUtils.forceMkdir(parent);
+
+        File junitTargetFile = getTargetFile(parent);
+        try {
+            XSLTemplatesCache cache = XSLTemplatesCache.get();
+            Templates templates = cache.getTemplates(cache.forMetric((InputMetricXSL) inputMetric));
+            return conversion.convert(templates, inputFile, junitTargetFile);
+        } catch (javax.xml.transform.TransformerException | ConversionException e) {
+            Throwable cause = e.getCause();
+            throw new TransformerException("Conversion error: " + (cause != null ? cause.getMessage() : e.getMessage()));
+        }
+    }
+
+    /**
+     * Computes the key of the given report in the node cache of converted
+     * reports.
+     *
+     * @param xUnitToolInfo
+     *            the xUnit info wrapper object
+     * @param inputFile
+     *            the input file to be converted
+     * @return the cache key or {@code null} if the cache is disabled or the
+     *         metric of the tool does not support it
+     * @throws IOException when the input file could not be read.
+     */
+    @CheckForNull
+    public String getCacheKey(XUnitToolInfo xUnitToolInfo, File inputFile) throws IOException {
+        XSLTemplatesCache cache = XSLTemplatesCache.get();
+        if (xUnitToolInfo.getConversionCacheSize() <= 0 //
+                || !(xUnitToolInfo.getInputMetric() instanceof InputMetricXSL inputMetricXSL) //
+                || !cache.isCacheable(inputMetricXSL)) {
+            return null;
+        }
+
+        XSLTemplatesCache.Stylesheet stylesheet;
+        if (xUnitToolInfo.getXSLFile() != null) {
+            stylesheet = cache.forContent(inputMetricXSL.getToolName(), xUnitToolInfo.getXSLFile());
+        } else {
+            stylesheet = cache.forMetric(inputMetricXSL);
+        }
+        return ConversionCache.getKey(stylesheet.getKey(), inputFile);
+    }
+
+    /**
+     * Gets the converted report from the node cache.
+     *
+     * @param xUnitToolInfo
+     *            the xUnit info wrapper object
+     * @param cacheKey
+     *            the cache key of the input file
+     * @param junitOutputDirectory
+     *            the output parent directory that contains the JUnit output
+     *            file
+     * @return the converted file or {@code null} if the report is not in cache
+     * @throws IOException when converted reports could not be created or written.
+     */
+    @CheckForNull
+    public File convertFromCache(XUnitToolInfo xUnitToolInfo, String cacheKey, File junitOutputDirectory) throws IOException {
+        File parent = new File(junitOutputDirectory, xUnitToolInfo.getInputMetric().getToolName());
+        FileUtils.forceMkdir(parent);
+
+        File junitTargetFile = getTargetFile(parent);
+        if (ConversionCache.get(xUnitToolInfo.getConversionCacheSize()).restore(cacheKey, junitTargetFile)) {
+            cacheHits.incrementAndGet();
+            return junitTargetFile;
+        }
+        cacheMisses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Stores a valid converted report in the node cache.
+     *
+     * @param xUnitToolInfo
+     *            the xUnit info wrapper object
+     * @param cacheKey
+     *            the cache key of the input file
+     * @param junitTargetFile
+     *            the converted file
+     */
+    public void storeInCache(XUnitToolInfo xUnitToolInfo, String cacheKey, File junitTargetFile) {
+        try {
+            ConversionCache.get(xUnitToolInfo.getConversionCacheSize()).store(cacheKey, junitTargetFile);
+        } catch (IOException e) {
+            // the report will be converted again next time
+            xUnitLog.warn("Unable to store the converted report in cache: " + e.getMessage());
+        }
+    }
+
+    public int getCacheHits() {
+        return cacheHits.get();
+    }
+
+    public int getCacheMisses() {
+        return cacheMisses.get();
+    }
+
+    private synchronized PipelinedConversion getPipelinedConversion(InputMetric inputMetric) {
+        if (!pipelinedConversionResolved) {
+            pipelinedConversion = PipelinedConversion.forMetric(inputMetric);
+            pipelinedConversionResolved = true;
+        }
+        return pipelinedConversion;
+    }
+
+    private void convertCustomMetric(XUnitToolInfo xUnitToolInfo, File inputFile, InputMetric inputMetric, File junitTargetFile) throws IOException {
         InputMetricXSL inputMetricXSL = (InputMetricXSL) inputMetric;
         try {
-            inputMetricXSL.convert(inputFile, junitTargetFile, xUnitToolInfo.getXSLFile(), null);
+            XSLTemplatesCache cache = XSLTemplatesCache.get();
+            if (xUnitToolInfo.isTemplatesCache() && cache.isCacheable(inputMetricXSL)) {
+                transform(cache.getTemplates(cache.forContent(inputMetric.getToolName(), xUnitToolInfo.getXSLFile())), inputFile, junitTargetFile);
+            } else {
+                inputMetricXSL.convert(inputFile, junitTargetFile, xUnitToolInfo.getXSLFile(), null);
+            }
         } catch (Exception xe) {
             xUnitLog.error("Error occurs on the use of the user stylesheet: " + xe.getMessage());
             xUnitLog.info("Fallback on the native embedded stylesheet.");
 
+            convertMetric(xUnitToolInfo, inputFile, inputMetric, junitTargetFile);
+        }
+    }
+
+    private void convertMetric(XUnitToolInfo xUnitToolInfo, File inputFile, InputMetric inputMetric, File junitTargetFile) throws IOException {
+        XSLTemplatesCache cache = XSLTemplatesCache.get();
+        if (xUnitToolInfo.isTemplatesCache() && inputMetric instanceof InputMetricXSL inputMetricXSL && cache.isCacheable(inputMetricXSL)) {
+            transform(cache.getTemplates(cache.forMetric(inputMetricXSL)), inputFile, junitTargetFile);
+        } else {
             inputMetric.convert(inputFile, junitTargetFile);
         }
     }
 
+    private boolean isPassthrough(InputMetric inputMetric) {
+        if (!(inputMetric instanceof JUnitInputMetric)) {
+            return false;
+        }
+        try {
+            return inputMetric.getClass().getMethod("convert", File.class, File.class, Map.class).getDeclaringClass() == JUnitInputMetric.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /*
+     * JUnit reports do not need any conversion, a hard link avoids to write
+     * the report again. The linked report keeps the timestamp of the original
+     * one so the parser must not filter reports by time.
+     */
+    private void link(File inputFile, File junitTargetFile) throws IOException {
+        try {
+            Files.createLink(junitTargetFile.toPath(), inputFile.toPath());
+        } catch (IOException | UnsupportedOperationException e) {
+            // other file system or hard links not supported
+            Files.copy(inputFile.toPath(), junitTargetFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void transform(Templates templates, File inputFile, File junitTargetFile) throws IOException {
+        try (OutputStream os = Files.newOutputStream(junitTargetFile.toPath())) {
+            templates.newTransformer().transform(XSLTemplatesCache.newSource(inputFile), new StreamResult(os));
+        } catch (javax.xml.transform.TransformerException e) {
+            throw new ConversionException(e);
+        }
+    }
+
     /**
      * Provides a unique target file name given an input report.The same input
      * file is intended not be converted twice time.
@@ -0,0 +1,158 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.jenkinsci.plugins.xunit.XUnitDefaultValues;
+import org.jenkinsci.plugins.xunit.jfr.ResultParsingEvent;
+import org.jenkinsci.plugins.xunit.jfr.XUnitEvent;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.remoting.VirtualChannel;
+import hudson.tasks.junit.TestResult;
+import hudson.tasks.test.PipelineTestDetails;
+import jenkins.MasterToSlaveFileCallable;
+
+/**
+ * Converts the reports of a tool and parses the converted reports on the same
+ * node, returning only the test result.
+ * <p>
+ * Converted reports are staged in the temporary folder of the node instead of
+ * the workspace and are removed as soon as they have been parsed, this way the
+ * workspace is never written and there is no need of a second scan of the
+ * generated JUnit folder.
+ *
+ * @author Nikolas Falco
+ */
+public class XUnitDirectResultCallable extends MasterToSlaveFileCallable<XUnitDirectResultCallable.Result> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The test result of the tool and the number of processed reports.
+     */
+    public static final class Result implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final TestResult testResult;
+        private final int processedReports;
+
+        Result(@CheckForNull TestResult testResult, int processedReports) {
+            this.testResult = testResult;
+            this.processedReports = processedReports;
+        }
+
+        /**
+         * Returns the test result of converted reports.
+         *
+         * @return the test result or {@code null} if no report has been
+         *         converted
+         */
+        @CheckForNull
+        public TestResult getTestResult() {
+            return testResult;
+        }
+
+        public int getProcessedReports() {
+            return processedReports;
+        }
+    }
+
+    private final XUnitTransformerCallable transformer;
+    private final long buildTime;
+    private final long nowMaster;
+    private final boolean keepLongStdio;
+    private final PipelineTestDetails pipelineTestDetails;
+
+    public XUnitDirectResultCallable(@NonNull XUnitTransformerCallable transformer,
+                                     long buildTime,
+                                     long nowMaster,
+                                     boolean keepLongStdio,
+                                     @CheckForNull PipelineTestDetails pipelineTestDetails) {
+        this.transformer = transformer;
+        this.buildTime = buildTime;
+        this.nowMaster = nowMaster;
+        this.keepLongStdio = keepLongStdio;
+        this.pipelineTestDetails = pipelineTestDetails;
+    }
+
+    /**
+     * Invocation
+     *
+     * @param ws the Jenkins workspace
+     * @param channel the Jenkins channel
+     * @return the test result of converted reports and their number
+     * @throws IOException in case an error occurs during communication with the
+     *         Jenkins node where this callable is executed.
+     * @throws TransformerException in case an error occurs when test reports
+     *         are transformed into JUnit report.
+     */
+    @Override
+    public Result invoke(File ws, VirtualChannel channel) throws IOException, InterruptedException {
+        final long nowSlave = System.currentTimeMillis();
+        File stagingDir = Files.createTempDirectory("xunit").toFile();
+        try {
+            int processedReports = transformer.transform(ws, stagingDir);
+            if (processedReports == 0) {
+                return new Result(null, 0);
+            }
+
+            List<File> reports = new ArrayList<>(FileUtils.listFiles(stagingDir, new String[] { XUnitDefaultValues.JUNIT_FILE_EXTENSION.substring(1) }, true));
+            Collections.sort(reports);
+
+            // all reports in the staging folder have been converted now
+            PhaseTimings.Sample sample = PhaseTimings.start();
+            ResultParsingEvent event = new ResultParsingEvent();
+            event.begin();
+            TestResult result = new TestResult(keepLongStdio);
+            result.parse(buildTime + (nowSlave - nowMaster), reports, pipelineTestDetails);
+            if (event.shouldCommit()) {
+                result.tally();
+                event.setTool(transformer.getToolInfo().getInputMetric().getToolName());
+                event.setTestCount(result.getTotalCount());
+                event.setOutcome(XUnitEvent.SUCCESS);
+                event.commit();
+            }
+            PhaseTimings timings = transformer.getTimings();
+            if (timings != null) {
+                timings.stop(sample, transformer.getToolInfo().getInputMetric().getToolName(), PhaseTimings.Phase.PARSING);
+            }
+            return new Result(result, processedReports);
+        } finally {
+            FileUtils.deleteQuietly(stagingDir);
+        }
+    }
+
+}
@@ -24,19 +24,70 @@
 
 package org.jenkinsci.plugins.xunit.service;
 
+import java.io.PrintStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import com.google.inject.Inject;
 
 import hudson.model.TaskListener;
+import hudson.util.DaemonThreadFactory;
+import hudson.util.NamingThreadFactory;
 
 public class XUnitLog implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    /*
+     * When set, messages logged by the current thread are kept aside and
+     * printed later in the order the caller chooses.
+     */
+    private static final ThreadLocal<List<Runnable>> DEFERRED = new ThreadLocal<>();
+
+    /**
+     * Size in characters of buffered messages that causes a flush.
+     */
+    static final int BUFFER_SIZE = 8 * 1024;
+    /**
+     * Maximum time in milliseconds a buffered message waits for a flush.
+     */
+    static final long FLUSH_INTERVAL = TimeUnit.SECONDS.toMillis(1);
+
+    /*
+     * Created on the node that buffers messages only when it is used.
+     */
+    private static final class Flusher {
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+                new NamingThreadFactory(new DaemonThreadFactory(), "xUnit log flusher"));
+    }
+    /**
+     * How many times the same warning is printed while buffering, next
+     * occurrences are only counted.
+     */
+    static final int MAX_REPEATED_WARNINGS = 1;
+    /**
+     * How many distinct warnings are counted while buffering.
+     */
+    static final int MAX_TRACKED_WARNINGS = 1000;
+
     private TaskListener buildListener;
 
+    /*
+     * The buffering state belongs to the node that logs, so it is never
+     * serialised.
+     */
+    private transient StringBuilder buffer;
+    private transient ScheduledFuture<?> scheduledFlush;
+    private transient Map<String, Integer> warnings;
+
     @Inject
     public XUnitLog(TaskListener buildListener) {
         this.buildListener = buildListener;
@@ -48,7 +99,9 @@ public class XUnitLog implements Serializable {
      * @param message The message to be outputted
      */
     public void info(String message) {
-        buildListener.getLogger().println("INFO: " + message);
+        if (!defer(() -> info(message))) {
+            println("INFO: " + message);
+        }
     }
 
     /**
@@ -57,7 +110,15 @@ public class XUnitLog implements Serializable {
      * @param message The message to be outputted
      */
     public void error(String message) {
-        buildListener.error(message);
+        if (!defer(() -> error(message))) {
+            synchronized (this) {
+                if (buffer != null) {
+                    println("ERROR: " + message);
+                    return;
+                }
+            }
+            buildListener.error(message);
+        }
     }
 
     /**
@@ -66,7 +127,131 @@ public class XUnitLog implements Serializable {
      * @param message The message to be outputted
      */
     public void warn(String message) {
-        buildListener.getLogger().println("WARNING: " + message);
+        if (!defer(() -> warn(message)) && !isRepeated(message)) {
+            println("WARNING: " + message);
+        }
+    }
+
+    /**
+     * Keeps messages aside and sends them to the console logger in batches,
+     * when they reach {@link #BUFFER_SIZE} or {@link #FLUSH_INTERVAL} has
+     * elapsed since the first message of the batch, even if nothing else is
+     * logged.
+     * <p>
+     * Warnings repeated more than {@link #MAX_REPEATED_WARNINGS} times are
+     * summarised when buffering stops.
+     */
+    public synchronized void startBuffering() {
+        if (buffer == null) {
+            buffer = new StringBuilder(BUFFER_SIZE);
+            warnings = new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * Sends all buffered messages to the console logger and goes back to
+     * print each message as soon as it is logged.
+     */
+    public synchronized void stopBuffering() {
+        if (buffer == null) {
+            return;
+        }
+        for (Map.Entry<String, Integer> warning : warnings.entrySet()) {
+            int repeated = warning.getValue() - MAX_REPEATED_WARNINGS;
+            if (repeated > 0) {
+                println("WARNING: " + Messages.XUnitLog_repeatedWarning(warning.getKey(), repeated));
+            }
+        }
+        flushBuffer();
+        buffer = null;
+        warnings = null;
+    }
+
+    private synchronized void println(String line) {
+        if (buffer == null) {
+            buildListener.getLogger().println(line);
+            return;
+        }
+        buffer.append(line).append(System.lineSeparator());
+        if (buffer.length() >= BUFFER_SIZE) {
+            flushBuffer();
+        } else if (scheduledFlush == null) {
+            scheduledFlush = Flusher.EXECUTOR.schedule(this::scheduledFlush, FLUSH_INTERVAL, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private synchronized void scheduledFlush() {
+        scheduledFlush = null;
+        if (buffer != null) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (buffer.length() > 0) {
+            PrintStream logger = buildListener.getLogger();
+            logger.print(buffer);
+            logger.flush();
+            buffer.setLength(0);
+        }
+    }
+
+    private synchronized boolean isRepeated(String message) {
+        if (warnings == null) {
+            return false;
+        }
+        Integer count = warnings.get(message);
+        if (count == null) {
+            if (warnings.size() < MAX_TRACKED_WARNINGS) {
+                warnings.put(message, 1);
+            }
+            return false;
+        }
+        warnings.put(message, count + 1);
+        return count >= MAX_REPEATED_WARNINGS;
+    }
+
+    private boolean defer(Runnable message) {
+        List<Runnable> deferred = DEFERRED.get();
+        if (deferred != null) {
+            deferred.add(message);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Collects all messages logged by the current thread, of any logger
+     * instance, until {@link #flush(List)} is called.
+     *
+     * @return the list that collects the messages
+     */
+    static List<Runnable> deferOnCurrentThread() {
+        List<Runnable> deferred = new ArrayList<>();
+        DEFERRED.set(deferred);
+        return deferred;
+    }
+
+    /**
+     * Stops collecting messages on the current thread.
+     */
+    static void resumeOnCurrentThread() {
+        DEFERRED.remove();
+    }
+
+    /**
+     * Prints the given deferred messages in their original order.
+     *
+     * @param deferred messages collected by {@link #deferOnCurrentThread()}
+     */
+    static void flush(List<Runnable> deferred) {
+        for (Runnable message : deferred) {
+            message.run();
+        }
     }
 
 }
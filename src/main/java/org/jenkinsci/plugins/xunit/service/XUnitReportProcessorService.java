@@ -66,24 +66,60 @@ public class XUnitReportProcessorService implements Serializable {
      * @throws NoTestFoundException when not report files were founded
      */
     public String[] findReports(File parentPath, XUnitToolInfo options) throws NoTestFoundException {
-        String toolName = options.getInputMetric().getLabel();
-        String includes = options.getPattern();
-        String excludes = options.getExcludesPattern();
+        if (options.isParallelScan()) {
+            return ReportFile.toPaths(findReportFiles(parentPath, options));
+        }
 
-        FileSet fs = Util.createFileSet(parentPath, includes, excludes);
+        FileSet fs = Util.createFileSet(parentPath, options.getPattern(), options.getExcludesPattern());
         fs.setFollowSymlinks(options.isFollowSymlink());
 
         DirectoryScanner ds = fs.getDirectoryScanner();
-        if (ds.getIncludedFilesCount() == 0) {
+        checkReportsFound(parentPath, options, ds.getIncludedFilesCount());
+
+        // avoid waste memory transforming internally the vector to string[] to list again specially when there are > 16000 test reports
+        return ds.getIncludedFiles();
+    }
+
+    /**
+     * Gets all reports from the given parent path and the pattern together
+     * with their size and last modified time.
+     *
+     * @param parentPath folder from where start search
+     * @param options all XUnit options also advanced
+     * @return the found reports
+     * @throws NoTestFoundException when not report files were founded
+     */
+    public ReportFile[] findReportFiles(File parentPath, XUnitToolInfo options) throws NoTestFoundException {
+        ReportScanner scanner = new ReportScanner(options.getPattern(), options.getExcludesPattern(), options.isFollowSymlink());
+        scanner.setParallelism(options.getParallelism());
+        return checkReports(parentPath, options, scanner.scanAll(parentPath)[0]);
+    }
+
+    /**
+     * Checks the reports of a tool found by an external scan.
+     *
+     * @param parentPath folder from where the search started
+     * @param options all XUnit options also advanced
+     * @param reports the reports found relative to the given folder
+     * @return the given reports
+     * @throws NoTestFoundException when not report files were founded
+     */
+    public ReportFile[] checkReports(File parentPath, XUnitToolInfo options, ReportFile[] reports) throws NoTestFoundException {
+        checkReportsFound(parentPath, options, reports.length);
+        return reports;
+    }
+
+    private void checkReportsFound(File parentPath, XUnitToolInfo options, int count) throws NoTestFoundException {
+        String toolName = options.getInputMetric().getLabel();
+        String includes = options.getPattern();
+
+        if (count == 0) {
             String msg = Messages.XUnitReportProcessorService_reportsNotFound(toolName, includes, parentPath);
             throw new NoTestFoundException(msg);
         }
 
-        String msg = Messages.XUnitReportProcessorService_reportsFound(toolName, ds.getIncludedFilesCount(), includes, parentPath);
+        String msg = Messages.XUnitReportProcessorService_reportsFound(toolName, count, includes, parentPath);
         xUnitLog.info(msg);
-
-        // avoid waste memory transforming internally the vector to string[] to list again specially when there are > 16000 test reports
-        return ds.getIncludedFiles();
     }
 
     /**
@@ -96,14 +132,33 @@ public class XUnitReportProcessorService implements Serializable {
      *         during this build is setup to fail
      */
     public void checkIfFindsFilesNewFiles(XUnitToolInfo xUnitToolInfo, String[] resultFiles, File workspace) throws NoNewTestReportException {
+        if (xUnitToolInfo.isFailIfNotNew()) {
+            ReportFile[] reports = new ReportFile[resultFiles.length];
+            for (int i = 0; i < resultFiles.length; i++) {
+                reports[i] = new ReportFile(resultFiles[i], ReportFile.UNKNOWN, new File(workspace, resultFiles[i]).lastModified());
+            }
+            checkIfFindsFilesNewFiles(xUnitToolInfo, reports, workspace);
+        }
+    }
+
+    /**
+     * Checks if all the finds files are new file using the last modified time
+     * read during the scan.
+     *
+     * @param xUnitToolInfo the wrapped object
+     * @param resultFiles the file list
+     * @param workspace the root location of the file list
+     * @throws NoNewTestReportException when the report file is not updated
+     *         during this build is setup to fail
+     */
+    public void checkIfFindsFilesNewFiles(XUnitToolInfo xUnitToolInfo, ReportFile[] resultFiles, File workspace) throws NoNewTestReportException {
 
         if (xUnitToolInfo.isFailIfNotNew()) {
-            ArrayList<File> oldResults = new ArrayList<>();
-            for (String value : resultFiles) {
-                File reportFile = new File(workspace, value);
+            ArrayList<ReportFile> oldResults = new ArrayList<>();
+            for (ReportFile report : resultFiles) {
                 // if the file was not updated this build, that is a problem
-                if (xUnitToolInfo.getBuildTime() - xUnitToolInfo.getTestTimeMargin() > reportFile.lastModified()) {
-                    oldResults.add(reportFile);
+                if (xUnitToolInfo.getBuildTime() - xUnitToolInfo.getTestTimeMargin() > report.getLastModified()) {
+                    oldResults.add(report);
                 }
             }
 
@@ -117,9 +172,9 @@ public class XUnitReportProcessorService implements Serializable {
 
                 StringBuilder stringBuilder = new StringBuilder();
                 stringBuilder.append(String.format("Test reports were found but not all of them are new. Did all the tests run?%n"));
-                for (File f : oldResults) {
-                    stringBuilder.append(String.format("  * %s is %s old%n", f, Util.getTimeSpanString(xUnitToolInfo.getBuildTime()
-                            - f.lastModified())));
+                for (ReportFile report : oldResults) {
+                    stringBuilder.append(String.format("  * %s is %s old%n", new File(workspace, report.getPath()), Util.getTimeSpanString(xUnitToolInfo.getBuildTime()
+                            - report.getLastModified())));
                 }
                 String msg = stringBuilder.toString();
                 throw new NoNewTestReportException(msg);
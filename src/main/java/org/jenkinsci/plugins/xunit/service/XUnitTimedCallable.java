@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Serial;
+import java.io.Serializable;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.FilePath.FileCallable;
+import hudson.remoting.VirtualChannel;
+import jenkins.MasterToSlaveFileCallable;
+
+/**
+ * Runs a callable on the node and returns its result together with the phase
+ * timings recorded on the node.
+ * <p>
+ * The given timings must be the same instance used by the wrapped callable,
+ * this way they are serialised once and the callable records on the instance
+ * returned by this one.
+ *
+ * @param <T> the type of the wrapped callable result
+ * @author Nikolas Falco
+ */
+public class XUnitTimedCallable<T> extends MasterToSlaveFileCallable<XUnitTimedCallable.Result<T>> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The result of the wrapped callable and the recorded timings.
+     *
+     * @param <T> the type of the wrapped callable result
+     */
+    public static final class Result<T> implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final T value;
+        private final PhaseTimings timings;
+
+        Result(T value, PhaseTimings timings) {
+            this.value = value;
+            this.timings = timings;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        @NonNull
+        public PhaseTimings getTimings() {
+            return timings;
+        }
+    }
+
+    private final FileCallable<T> callable;
+    private final PhaseTimings timings;
+    private final PhaseTimings.Phase phase;
+
+    /**
+     * Default constructor.
+     *
+     * @param callable the callable to run
+     * @param timings the timings where the callable records
+     * @param phase if not {@code null} the whole callable execution is
+     *        recorded as this phase
+     */
+    public XUnitTimedCallable(@NonNull FileCallable<T> callable, @NonNull PhaseTimings timings, @CheckForNull PhaseTimings.Phase phase) {
+        this.callable = callable;
+        this.timings = timings;
+        this.phase = phase;
+    }
+
+    @Override
+    public Result<T> invoke(File ws, VirtualChannel channel) throws IOException, InterruptedException {
+        PhaseTimings.Sample sample = PhaseTimings.start();
+        T value = callable.invoke(ws, channel);
+        if (phase != null) {
+            timings.stop(sample, null, phase);
+        }
+        return new Result<>(value, timings);
+    }
+
+}
@@ -41,6 +41,14 @@ public class XUnitToolInfo implements Serializable {
     private final boolean deleteOutputFiles;
     private final boolean stopProcessingIfError;
     private boolean followSymlink;
+    private int parallelism = 1;
+    private boolean pipelined;
+    private boolean passthrough;
+    private boolean templatesCache;
+    private boolean schemaCache;
+    private long conversionCacheSize;
+    private boolean parallelScan;
+    private double maxLoad;
     private final long buildTime;
     private final long testTimeMargin;
     private final long sleepTime;
@@ -81,6 +89,25 @@ public class XUnitToolInfo implements Serializable {
         this.xslContent = xslContent;
     }
 
+    /**
+     * Returns a copy of this tool info that uses the given input metric.
+     *
+     * @param inputMetric the metric of the copy
+     * @return a new tool info with the same settings of this one
+     */
+    XUnitToolInfo withInputMetric(InputMetric inputMetric) {
+        XUnitToolInfo copy = new XUnitToolInfo(inputMetric, pattern, skipNoTestFiles, failIfNotNew, deleteOutputFiles,
+                stopProcessingIfError, followSymlink, buildTime, testTimeMargin, sleepTime, xslContent);
+        copy.excludesPattern = excludesPattern;
+        copy.parallelism = parallelism;
+        copy.pipelined = pipelined;
+        copy.passthrough = passthrough;
+        copy.conversionCacheSize = conversionCacheSize;
+        copy.parallelScan = parallelScan;
+        copy.maxLoad = maxLoad;
+        return copy;
+    }
+
     public String getXSLFile() {
         return xslContent;
     }
@@ -132,4 +159,117 @@ public class XUnitToolInfo implements Serializable {
     public void setExcludesPattern(String excludesPattern) {
         this.excludesPattern = excludesPattern;
     }
+
+    /**
+     * Returns the maximum number of reports converted at the same time.
+     *
+     * @return the number of conversion workers, 1 means sequential processing
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Returns if reports must be validated and converted reading them only
+     * once.
+     *
+     * @return {@code true} to use the pipelined conversion when supported by
+     *         the input metric
+     */
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    public void setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+    }
+
+    /**
+     * Returns if JUnit reports must be linked into the output folder instead
+     * of copied.
+     *
+     * @return {@code true} to hard link JUnit reports when possible
+     */
+    public boolean isPassthrough() {
+        return passthrough;
+    }
+
+    public void setPassthrough(boolean passthrough) {
+        this.passthrough = passthrough;
+    }
+
+    /**
+     * Returns if reports must be converted with the stylesheets compiled once
+     * per node instead of by the input metric.
+     *
+     * @return {@code true} to use the compiled stylesheets when the metric
+     *         supports them
+     */
+    public boolean isTemplatesCache() {
+        return templatesCache;
+    }
+
+    public void setTemplatesCache(boolean templatesCache) {
+        this.templatesCache = templatesCache;
+    }
+
+    /**
+     * Returns if reports must be validated with the XSD schemas compiled once
+     * per node instead of by the input metric.
+     *
+     * @return {@code true} to use the compiled schemas when the metric
+     *         supports them
+     */
+    public boolean isSchemaCache() {
+        return schemaCache;
+    }
+
+    public void setSchemaCache(boolean schemaCache) {
+        this.schemaCache = schemaCache;
+    }
+
+    /**
+     * Returns the maximum size of the node cache of converted reports.
+     *
+     * @return the size in bytes, 0 means that the cache is disabled
+     */
+    public long getConversionCacheSize() {
+        return conversionCacheSize;
+    }
+
+    public void setConversionCacheSize(long conversionCacheSize) {
+        this.conversionCacheSize = Math.max(0, conversionCacheSize);
+    }
+
+    /**
+     * Returns if reports must be searched walking the folder tree in parallel.
+     *
+     * @return {@code true} to use the parallel scanner instead of the Ant
+     *         directory scanner
+     */
+    public boolean isParallelScan() {
+        return parallelScan;
+    }
+
+    public void setParallelScan(boolean parallelScan) {
+        this.parallelScan = parallelScan;
+    }
+
+    /**
+     * Returns the maximum load per processor of the node while reports are
+     * converted.
+     *
+     * @return the load budget, 0 means that the fixed sleep time is used
+     */
+    public double getMaxLoad() {
+        return maxLoad;
+    }
+
+    public void setMaxLoad(double maxLoad) {
+        this.maxLoad = Math.max(0, maxLoad);
+    }
 }
@@ -26,13 +26,28 @@ package org.jenkinsci.plugins.xunit.service;
 import java.io.File;
 import java.io.IOException;
 import java.io.Serial;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.inject.Inject;
 
 import org.apache.commons.io.FileUtils;
-import org.jenkinsci.lib.dtkit.util.validator.ValidationError;
+import org.jenkinsci.lib.dtkit.model.InputMetric;
 import org.jenkinsci.plugins.xunit.XUnitDefaultValues;
+import org.jenkinsci.plugins.xunit.jfr.ReportConversionEvent;
+import org.jenkinsci.plugins.xunit.jfr.ReportDiscoveryEvent;
+import org.jenkinsci.plugins.xunit.jfr.ReportValidationEvent;
+import org.jenkinsci.plugins.xunit.jfr.XUnitEvent;
+import org.jenkinsci.plugins.xunit.types.CustomInputMetric;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import hudson.Util;
 import hudson.remoting.VirtualChannel;
 import jenkins.MasterToSlaveFileCallable;
 
@@ -46,6 +61,7 @@ public class XUnitTransformerCallable extends MasterToSlaveFileCallable<Integer>
     private XUnitToolInfo xUnitToolInfo;
     private XUnitLog xUnitLog;
     private String processorId;
+    private PhaseTimings timings;
 
     @Inject
     public XUnitTransformerCallable(XUnitReportProcessorService xUnitReportProcessorService,
@@ -73,71 +89,385 @@ public class XUnitTransformerCallable extends MasterToSlaveFileCallable<Integer>
      */
     @Override
     public Integer invoke(File ws, VirtualChannel channel) throws IOException, InterruptedException {
-        int processedFiles = 0;
-
         File junitOutputDir = new File(ws, XUnitDefaultValues.GENERATED_JUNIT_DIR);
         if (processorId != null) {
             junitOutputDir = new File(junitOutputDir, processorId);
         }
         FileUtils.forceMkdir(junitOutputDir);
 
-        String metricName = xUnitToolInfo.getInputMetric().getToolName();
+        return transform(ws, junitOutputDir);
+    }
+
+    /**
+     * Validates and converts all reports of the tool in the given folder.
+     *
+     * @param ws the Jenkins workspace
+     * @param junitOutputDir the folder where write the converted reports
+     * @return the number of converted reports
+     * @throws IOException in case an error occurs reading or writing reports
+     * @throws InterruptedException if the conversion has been interrupted
+     */
+    int transform(File ws, File junitOutputDir) throws IOException, InterruptedException {
+        return transform(ws, junitOutputDir, null);
+    }
 
+    /**
+     * Validates and converts the given reports of the tool.
+     *
+     * @param ws the Jenkins workspace
+     * @param junitOutputDir the folder where write the converted reports
+     * @param scannedFiles the reports already found in the workspace with
+     *        their attributes, if {@code null} they are searched using the
+     *        tool patterns
+     * @return the number of converted reports
+     * @throws IOException in case an error occurs reading or writing reports
+     * @throws InterruptedException if the conversion has been interrupted
+     */
+    int transform(File ws, File junitOutputDir, @CheckForNull ReportFile[] scannedFiles) throws IOException, InterruptedException {
         // Gets all input files matching the user pattern
-        String[] resultFiles = xUnitReportProcessorService.findReports(ws, xUnitToolInfo);
+        PhaseTimings.Sample discovery = startPhase();
+        ReportDiscoveryEvent discoveryEvent = new ReportDiscoveryEvent();
+        discoveryEvent.begin();
+        ReportFile[] resultFiles;
+        try {
+            if (scannedFiles != null || xUnitToolInfo.isParallelScan()) {
+                if (scannedFiles != null) {
+                    resultFiles = xUnitReportProcessorService.checkReports(ws, xUnitToolInfo, scannedFiles);
+                } else {
+                    resultFiles = xUnitReportProcessorService.findReportFiles(ws, xUnitToolInfo);
+                }
 
-        // Checks the timestamp for each test file if the UI option is
-        // checked (true by default)
-        xUnitReportProcessorService.checkIfFindsFilesNewFiles(xUnitToolInfo, resultFiles, ws);
+                // Checks the timestamp read during the scan for each test file if
+                // the UI option is checked (true by default)
+                xUnitReportProcessorService.checkIfFindsFilesNewFiles(xUnitToolInfo, resultFiles, ws);
+            } else {
+                String[] reports = xUnitReportProcessorService.findReports(ws, xUnitToolInfo);
 
-        boolean isStopProcessingIfError = xUnitReportProcessorService.isStopProcessingIfError(xUnitToolInfo);
+                // Checks the timestamp for each test file if the UI option is
+                // checked (true by default)
+                xUnitReportProcessorService.checkIfFindsFilesNewFiles(xUnitToolInfo, reports, ws);
 
-        for (String curFileName : resultFiles) {
-            File curFile = xUnitReportProcessorService.getCurrentReport(ws, curFileName);
+                resultFiles = new ReportFile[reports.length];
+                for (int i = 0; i < reports.length; i++) {
+                    resultFiles[i] = new ReportFile(reports[i], ReportFile.UNKNOWN, ReportFile.UNKNOWN);
+                }
+            }
+        } catch (IOException e) {
+            if (discoveryEvent.shouldCommit()) {
+                commit(discoveryEvent, XUnitEvent.FAILURE);
+            }
+            throw e;
+        }
+        if (discoveryEvent.shouldCommit()) {
+            discoveryEvent.setReportCount(resultFiles.length);
+            commit(discoveryEvent, XUnitEvent.SUCCESS);
+        }
+        stopPhase(discovery, PhaseTimings.Phase.DISCOVERY);
 
-            if (!xUnitValidationService.checkFileIsNotEmpty(curFile)) {
-                // Ignore the empty result file (some reason)
-                String msg = Messages.XUnitTransformerCallable_empty(curFile.getPath(), metricName);
-                if (isStopProcessingIfError) {
-                    throw new EmptyReportFileException(msg);
-                } else {
-                    xUnitLog.warn(msg);
-                    continue;
+        ConversionThrottle throttle = ConversionThrottle.create(xUnitToolInfo);
+        int processedFiles = 0;
+        int parallelism = Math.min(xUnitToolInfo.getParallelism(), resultFiles.length);
+        if (parallelism > 1) {
+            processedFiles = processReports(ws, resultFiles, junitOutputDir, parallelism, throttle);
+        } else {
+            for (ReportFile report : resultFiles) {
+                if (processReport(xUnitToolInfo, ws, report, junitOutputDir)) {
+                    processedFiles++;
+                    throttle.afterReport(processedFiles);
                 }
             }
+        }
 
-            // Validates Input file
-            if (!xUnitValidationService.validateInputFile(xUnitToolInfo, curFile)) {
-                String msg = Messages.XUnitTransformerCallable_invalidInput(curFile, metricName);
-                if (isStopProcessingIfError) {
-                    throw new TransformerException(msg);
-                } else {
-                    xUnitLog.warn(msg);
-                    continue;
+        if (throttle.isAdaptive() && throttle.getThrottledTime() > 0) {
+            xUnitLog.info(Messages.XUnitTransformerCallable_throttled(Util.getTimeSpanString(throttle.getThrottledTime())));
+        }
+
+        if (xUnitToolInfo.getConversionCacheSize() > 0) {
+            xUnitLog.info(Messages.XUnitTransformerCallable_conversionCache(xUnitConversionService.getCacheHits(), xUnitConversionService.getCacheMisses()));
+        }
+        return processedFiles;
+    }
+
+    /**
+     * Converts reports using a bounded pool of workers.
+     * <p>
+     * Messages logged while a report is processed are printed once all
+     * previous reports have been completed, this way the console output is the
+     * same of the sequential processing. When the processing must stop at the
+     * first error, the error of the first report in order is thrown and the
+     * remaining conversions are cancelled.
+     */
+    private int processReports(final File ws, final ReportFile[] resultFiles, final File junitOutputDir, final int parallelism, final ConversionThrottle throttle) throws IOException, InterruptedException {
+        // input metrics keep the validation errors of the last processed file,
+        // each worker needs its own copy
+        final ThreadLocal<XUnitToolInfo> workerToolInfo = ThreadLocal.withInitial(() -> xUnitToolInfo.withInputMetric(newInputMetric()));
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "xunit-converter-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            // only a window of reports is queued at time, not to hold a
+            // future for each report of the workspace
+            int window = parallelism * 2;
+            Deque<Future<ReportOutcome>> outcomes = new ArrayDeque<>(window);
+            int submitted = 0;
+            int processedFiles = 0;
+            while (submitted < resultFiles.length || !outcomes.isEmpty()) {
+                while (submitted < resultFiles.length && outcomes.size() < window) {
+                    ReportFile report = resultFiles[submitted++];
+                    outcomes.add(executor.submit(() -> {
+                        ReportOutcome outcome = new ReportOutcome(XUnitLog.deferOnCurrentThread());
+                        try {
+                            outcome.processed = processReport(workerToolInfo.get(), ws, report, junitOutputDir);
+                            if (outcome.processed) {
+                                throttle.afterReport(completed.incrementAndGet());
+                            }
+                        } catch (IOException | InterruptedException | RuntimeException e) {
+                            outcome.error = e;
+                        } finally {
+                            XUnitLog.resumeOnCurrentThread();
+                        }
+                        return outcome;
+                    }));
+                }
+
+                ReportOutcome outcome;
+                try {
+                    outcome = outcomes.poll().get();
+                } catch (ExecutionException e) {
+                    throw new IOException(e.getCause());
+                }
+                XUnitLog.flush(outcome.messages);
+                if (outcome.error instanceof IOException ioe) {
+                    throw ioe;
+                } else if (outcome.error instanceof InterruptedException ie) {
+                    throw ie;
+                } else if (outcome.error instanceof RuntimeException re) {
+                    throw re;
+                }
+                if (outcome.processed) {
+                    processedFiles++;
                 }
             }
+            return processedFiles;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /*
+     * Metrics are created by the plugin class loader, a serialization round
+     * trip would resolve their classes with the loader of core or of the
+     * remoting channel.
+     */
+    private InputMetric newInputMetric() {
+        InputMetric inputMetric = xUnitToolInfo.getInputMetric();
+        try {
+            InputMetric copy = inputMetric.getClass().getDeclaredConstructor().newInstance();
+            if (copy instanceof CustomInputMetric customMetric) {
+                customMetric.setCustomXSLFile(((CustomInputMetric) inputMetric).getXslFile());
+            }
+            return copy;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can not create a copy of the input metric " + inputMetric.getToolName(), e);
+        }
+    }
+
+    private static final class ReportOutcome {
+        private final List<Runnable> messages;
+        private boolean processed;
+        private Exception error;
+
+        private ReportOutcome(List<Runnable> messages) {
+            this.messages = messages;
+        }
+    }
+
+    /**
+     * Validates and converts a single report.
+     *
+     * @param toolInfo the tool info used by the current thread
+     * @param ws the Jenkins workspace
+     * @param report the report with path relative to the workspace
+     * @param junitOutputDir the folder where write the converted report
+     * @return {@code true} if the report has been converted, {@code false} if
+     *         it has been skipped
+     */
+    private boolean processReport(XUnitToolInfo toolInfo, File ws, ReportFile report, File junitOutputDir) throws IOException {
+        String metricName = toolInfo.getInputMetric().getToolName();
+        boolean isStopProcessingIfError = xUnitReportProcessorService.isStopProcessingIfError(toolInfo);
+
+        File curFile = xUnitReportProcessorService.getCurrentReport(ws, report.getPath());
+
+        boolean notEmpty = report.getSize() == ReportFile.UNKNOWN ? xUnitValidationService.checkFileIsNotEmpty(curFile) : xUnitValidationService.checkFileIsNotEmpty(report);
+        if (!notEmpty) {
+            // Ignore the empty result file (some reason)
+            String msg = Messages.XUnitTransformerCallable_empty(curFile.getPath(), metricName);
+            if (isStopProcessingIfError) {
+                throw new EmptyReportFileException(msg);
+            } else {
+                xUnitLog.warn(msg);
+                return false;
+            }
+        }
 
-            // Convert the input file
-            File junitTargetFile = xUnitConversionService.convert(xUnitToolInfo, curFile, junitOutputDir);
+        // reports that did not change since a previous build are already converted
+        PhaseTimings.Sample sample = startPhase();
+        ReportConversionEvent conversionEvent = new ReportConversionEvent();
+        conversionEvent.begin();
+        String cacheKey = xUnitConversionService.getCacheKey(toolInfo, curFile);
+        if (cacheKey != null && xUnitConversionService.convertFromCache(toolInfo, cacheKey, junitOutputDir) != null) {
+            stopPhase(sample, PhaseTimings.Phase.CONVERSION);
+            if (conversionEvent.shouldCommit()) {
+                conversionEvent.setCached(true);
+                commit(conversionEvent, report, curFile, XUnitEvent.SUCCESS);
+            }
+            return true;
+        }
 
-            // Validates converted file
-            if (!xUnitValidationService.validateOutputFile(xUnitToolInfo, curFile, junitTargetFile)) {
-                for (ValidationError validatorError : xUnitToolInfo.getInputMetric().getOutputValidationErrors()) {
-                    xUnitLog.error(validatorError.getMessage());
+        if (toolInfo.isPipelined()) {
+            PipelinedConversion.Result result = xUnitConversionService.convertPipelined(toolInfo, curFile, junitOutputDir);
+            // validation is not measured apart when done in the same pass
+            stopPhase(sample, PhaseTimings.Phase.CONVERSION);
+            if (result != null) {
+                if (conversionEvent.shouldCommit()) {
+                    commit(conversionEvent, report, curFile, result.isValidInput() && result.isValidOutput() ? XUnitEvent.SUCCESS : XUnitEvent.FAILURE);
                 }
-                if (isStopProcessingIfError) {
-                    String msg = Messages.XUnitTransformerCallable_invalidOutput(curFile, metricName);
-                    throw new TransformerException(msg);
+                boolean processed = processPipelinedResult(result, curFile, metricName, isStopProcessingIfError);
+                if (cacheKey != null && result.isValidInput() && result.isValidOutput()) {
+                    xUnitConversionService.storeInCache(toolInfo, cacheKey, result.getTargetFile());
                 }
+                return processed;
+            }
+        }
+
+        // Validates Input file
+        sample = startPhase();
+        ReportValidationEvent validationEvent = new ReportValidationEvent();
+        validationEvent.begin();
+        boolean validInput = xUnitValidationService.validateInputFile(toolInfo, curFile);
+        stopPhase(sample, PhaseTimings.Phase.INPUT_VALIDATION);
+        if (validationEvent.shouldCommit()) {
+            validationEvent.setTarget(ReportValidationEvent.INPUT);
+            commit(validationEvent, report, curFile, validInput ? XUnitEvent.SUCCESS : XUnitEvent.FAILURE);
+        }
+        if (!validInput) {
+            String msg = Messages.XUnitTransformerCallable_invalidInput(curFile, metricName);
+            if (isStopProcessingIfError) {
+                throw new TransformerException(msg);
+            } else {
+                xUnitLog.warn(msg);
+                return false;
+            }
+        }
+
+        // Convert the input file
+        sample = startPhase();
+        conversionEvent = new ReportConversionEvent();
+        conversionEvent.begin();
+        File junitTargetFile = xUnitConversionService.convert(toolInfo, curFile, junitOutputDir);
+        stopPhase(sample, PhaseTimings.Phase.CONVERSION);
+        if (conversionEvent.shouldCommit()) {
+            commit(conversionEvent, report, curFile, XUnitEvent.SUCCESS);
+        }
+
+        // Validates converted file
+        sample = startPhase();
+        validationEvent = new ReportValidationEvent();
+        validationEvent.begin();
+        boolean validOutput = xUnitValidationService.validateOutputFile(toolInfo, curFile, junitTargetFile);
+        stopPhase(sample, PhaseTimings.Phase.OUTPUT_VALIDATION);
+        if (validationEvent.shouldCommit()) {
+            validationEvent.setTarget(ReportValidationEvent.OUTPUT);
+            commit(validationEvent, report, curFile, validOutput ? XUnitEvent.SUCCESS : XUnitEvent.FAILURE);
+        }
+        if (!validOutput) {
+            if (isStopProcessingIfError) {
+                String msg = Messages.XUnitTransformerCallable_invalidOutput(curFile, metricName);
+                throw new TransformerException(msg);
             }
+        } else if (cacheKey != null) {
+            xUnitConversionService.storeInCache(toolInfo, cacheKey, junitTargetFile);
+        }
+        return true;
+    }
 
-            processedFiles++;
-            // this should not more needed using NonBlocking step
-            if (processedFiles % 50 == 0 && xUnitToolInfo.getSleepTime() > 0) {
-                Thread.sleep(xUnitToolInfo.getSleepTime());
+    private boolean processPipelinedResult(PipelinedConversion.Result result, File curFile, String metricName, boolean isStopProcessingIfError) throws TransformerException {
+        if (!result.isValidInput()) {
+            xUnitLog.warn(Messages.XUnitValidationService_invalidInput(curFile));
+            for (String validatorError : result.getInputErrors()) {
+                xUnitLog.warn(validatorError);
+            }
+            String msg = Messages.XUnitTransformerCallable_invalidInput(curFile, metricName);
+            if (isStopProcessingIfError) {
+                throw new TransformerException(msg);
+            } else {
+                xUnitLog.warn(msg);
+                return false;
             }
         }
-        return processedFiles;
+
+        if (!result.isValidOutput()) {
+            xUnitLog.warn(Messages.XUnitValidationService_invalidOutput(curFile));
+            for (String validatorError : result.getOutputErrors()) {
+                xUnitLog.warn(validatorError);
+            }
+            if (isStopProcessingIfError) {
+                String msg = Messages.XUnitTransformerCallable_invalidOutput(curFile, metricName);
+                throw new TransformerException(msg);
+            }
+        }
+        return true;
+    }
+
+    private void commit(XUnitEvent event, String outcome) {
+        event.setTool(xUnitToolInfo.getInputMetric().getToolName());
+        event.setOutcome(outcome);
+        event.commit();
+    }
+
+    private void commit(ReportConversionEvent event, ReportFile report, File curFile, String outcome) {
+        event.setReport(report.getPath());
+        event.setFileSize(report.getSize() != ReportFile.UNKNOWN ? report.getSize() : curFile.length());
+        commit(event, outcome);
+    }
+
+    private void commit(ReportValidationEvent event, ReportFile report, File curFile, String outcome) {
+        event.setReport(report.getPath());
+        event.setFileSize(report.getSize() != ReportFile.UNKNOWN ? report.getSize() : curFile.length());
+        commit(event, outcome);
+    }
+
+    @CheckForNull
+    private PhaseTimings.Sample startPhase() {
+        return timings != null ? PhaseTimings.start() : null;
+    }
+
+    private void stopPhase(@CheckForNull PhaseTimings.Sample sample, PhaseTimings.Phase phase) {
+        if (sample != null) {
+            timings.stop(sample, xUnitToolInfo.getInputMetric().getToolName(), phase);
+        }
+    }
+
+    /**
+     * Returns where the phases of this tool are recorded.
+     *
+     * @return the timings or {@code null} if phases are not measured
+     */
+    @CheckForNull
+    public PhaseTimings getTimings() {
+        return timings;
+    }
+
+    public void setTimings(@CheckForNull PhaseTimings timings) {
+        this.timings = timings;
+    }
+
+    XUnitToolInfo getToolInfo() {
+        return xUnitToolInfo;
     }
 
     public String getProcessorId() {
@@ -28,12 +28,16 @@ import java.io.File;
 import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.List;
+
+import javax.xml.validation.Schema;
 
 import jakarta.inject.Inject;
 
 import org.jenkinsci.lib.dtkit.model.InputMetric;
 import org.jenkinsci.lib.dtkit.util.validator.ValidationError;
 import org.jenkinsci.lib.dtkit.util.validator.ValidationException;
+import org.xml.sax.SAXException;
 
 public class XUnitValidationService implements Serializable {
     @Serial
@@ -60,6 +64,17 @@ public class XUnitValidationService implements Serializable {
         }
     }
 
+    /**
+     * Checks if the current input file is not empty using the size read
+     * during the scan.
+     *
+     * @param report the scanned report
+     * @return true if not empty, false otherwise
+     */
+    public boolean checkFileIsNotEmpty(ReportFile report) {
+        return report.getSize() != 0;
+    }
+
     /**
      * Validates an input file.
      *
@@ -73,7 +88,17 @@ public class XUnitValidationService implements Serializable {
 
         // Validates the input file (not empty)
         try {
-            if (!inputMetric.validateInputFile(inputFile)) {
+            Schema schema = xUnitToolInfo.isSchemaCache() ? XSDSchemaCache.get().forInput(inputMetric) : null;
+            if (schema != null) {
+                List<String> errors = XSDSchemaCache.get().validate(schema, inputFile);
+                if (!errors.isEmpty()) {
+                    xUnitLog.warn(Messages.XUnitValidationService_invalidInput(inputFile));
+                    for (String validatorError : errors) {
+                        xUnitLog.warn(validatorError);
+                    }
+                    return false;
+                }
+            } else if (!inputMetric.validateInputFile(inputFile)) {
                 // ignores invalid files
                 xUnitLog.warn(Messages.XUnitValidationService_invalidInput(inputFile));
                 for (ValidationError validatorError : inputMetric.getInputValidationErrors()) {
@@ -84,6 +109,8 @@ public class XUnitValidationService implements Serializable {
             }
         } catch (ValidationException ve) {
             xUnitLog.error(ve.getMessage());
+        } catch (IOException | SAXException e) {
+            xUnitLog.error(e.getMessage());
         }
         return true;
     }
@@ -101,8 +128,17 @@ public class XUnitValidationService implements Serializable {
 
         try {
             // Validates the output
-            boolean validateOutput = inputMetric.validateOutputFile(junitTargetFile);
-            if (!validateOutput) {
+            Schema schema = xUnitToolInfo.isSchemaCache() ? XSDSchemaCache.get().forOutput(inputMetric) : null;
+            if (schema != null) {
+                List<String> errors = XSDSchemaCache.get().validate(schema, junitTargetFile);
+                if (!errors.isEmpty()) {
+                    xUnitLog.warn(Messages.XUnitValidationService_invalidOutput(inputFile));
+                    for (String validatorError : errors) {
+                        xUnitLog.warn(validatorError);
+                    }
+                    return false;
+                }
+            } else if (!inputMetric.validateOutputFile(junitTargetFile)) {
                 xUnitLog.warn(Messages.XUnitValidationService_invalidOutput(inputFile));
                 for (ValidationError validatorError : inputMetric.getOutputValidationErrors()) {
                     xUnitLog.warn(validatorError.toString());
@@ -112,6 +148,8 @@ public class XUnitValidationService implements Serializable {
 
         } catch (ValidationException ve) {
             xUnitLog.error(ve.getMessage());
+        } catch (IOException | SAXException e) {
+            xUnitLog.error(e.getMessage());
         }
 
         return true;
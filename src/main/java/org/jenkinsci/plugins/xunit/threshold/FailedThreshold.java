@@ -43,37 +43,53 @@ public class FailedThreshold extends XUnitThreshold {
 
     @Override
     public Result getResultThresholdNumber(XUnitLog log, Run<?, ?> build, TestResultSummary testResult, TestResultSummary previousTestResultAction) {
+        return getResultThresholdNumber(log, build, testResult, previousTestResultAction, null);
+    }
 
-        int failedCount = testResult.getFailCount();
-
-        int previousFailedCount = 0;
-        if (previousTestResultAction != null) {
-            previousFailedCount = previousTestResultAction.getFailCount();
-        }
-        int newFailedCount = failedCount - previousFailedCount;
+    @Override
+    public Result getResultThresholdNumber(XUnitLog log, Run<?, ?> build, TestResultSummary testResult, TestResultSummary previousTestResultAction, FailureDelta failureDelta) {
 
+        int failedCount = testResult.getFailCount();
+        int newFailedCount = getNewFailedCount(testResult, previousTestResultAction, failureDelta);
 
         return getResultThresholdNumber(log, failedCount, newFailedCount);
     }
 
     @Override
     public Result getResultThresholdPercent(XUnitLog log, Run<?, ?> build, TestResultSummary testResult, TestResultSummary previousTestResultAction) {
+        return getResultThresholdPercent(log, build, testResult, previousTestResultAction, null);
+    }
+
+    @Override
+    public Result getResultThresholdPercent(XUnitLog log, Run<?, ?> build, TestResultSummary testResult, TestResultSummary previousTestResultAction, FailureDelta failureDelta) {
 
         double count = testResult.getTotalCount();
 
         double failedCount = testResult.getFailCount();
         double percentFailed = failedCount == 0d ? 0d : (failedCount / count) * 100;
 
-        double previousFailedCount = 0;
-        if (previousTestResultAction != null) {
-            previousFailedCount = previousTestResultAction.getFailCount();
-        }
-        double newFailedCount = failedCount - previousFailedCount;
+        double newFailedCount = getNewFailedCount(testResult, previousTestResultAction, failureDelta);
         double percentNewFailed = newFailedCount == 0d ? 0d : (newFailedCount / count) * 100;
 
         return getResultThresholdPercent(log, percentFailed, percentNewFailed);
     }
 
+    /*
+     * Without the exact delta the new failures are estimated from the counts,
+     * in that case fixed tests hide the same number of new failures.
+     */
+    private int getNewFailedCount(TestResultSummary testResult, TestResultSummary previousTestResultAction, FailureDelta failureDelta) {
+        if (failureDelta != null) {
+            return failureDelta.getNewFailCount();
+        }
+
+        int previousFailedCount = 0;
+        if (previousTestResultAction != null) {
+            previousFailedCount = previousTestResultAction.getFailCount();
+        }
+        return testResult.getFailCount() - previousFailedCount;
+    }
+
     @Override
     public boolean isValidThreshold(double threshold, double value) {
         return value <= threshold;
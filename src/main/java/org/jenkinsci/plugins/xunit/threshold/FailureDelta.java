@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.threshold;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * The exact difference between the failed tests of a build and those of the
+ * previous build.
+ *
+ * @author Nikolas Falco
+ */
+public final class FailureDelta implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int newFailCount;
+    private final int fixedCount;
+
+    public FailureDelta(int newFailCount, int fixedCount) {
+        this.newFailCount = newFailCount;
+        this.fixedCount = fixedCount;
+    }
+
+    /**
+     * Returns how many tests fail now but did not fail in the previous build.
+     *
+     * @return the count of new failures
+     */
+    public int getNewFailCount() {
+        return newFailCount;
+    }
+
+    /**
+     * Returns how many tests failed in the previous build but do not fail
+     * now.
+     *
+     * @return the count of fixed tests
+     */
+    public int getFixedCount() {
+        return fixedCount;
+    }
+
+}
@@ -29,6 +29,7 @@ import java.io.Serializable;
 import org.jenkinsci.plugins.xunit.service.XUnitLog;
 import org.kohsuke.stapler.DataBoundSetter;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import hudson.DescriptorExtensionList;
 import hudson.ExtensionPoint;
 import hudson.Util;
@@ -116,6 +117,52 @@ public abstract class XUnitThreshold implements ExtensionPoint, Serializable, De
                                                      TestResultSummary testResult,
                                                      TestResultSummary previousTestResultAction);
 
+    /**
+     * Evaluates the threshold on the count of tests knowing which failures
+     * are new.
+     * <p>
+     * By default the failure delta is ignored and the evaluation is the same
+     * of {@link #getResultThresholdNumber(XUnitLog, Run, TestResultSummary, TestResultSummary)}.
+     *
+     * @param log the build logger
+     * @param build the current build
+     * @param testResult the test counts of the current build
+     * @param previousResult the test counts of the previous build, if any
+     * @param failureDelta the exact new and fixed failures compared to the
+     *        previous build, {@code null} if not available
+     * @return the build result for this threshold
+     */
+    public Result getResultThresholdNumber(XUnitLog log,
+                                           Run<?, ?> build,
+                                           TestResultSummary testResult,
+                                           TestResultSummary previousResult,
+                                           @CheckForNull FailureDelta failureDelta) {
+        return getResultThresholdNumber(log, build, testResult, previousResult);
+    }
+
+    /**
+     * Evaluates the threshold on the percent of tests knowing which failures
+     * are new.
+     * <p>
+     * By default the failure delta is ignored and the evaluation is the same
+     * of {@link #getResultThresholdPercent(XUnitLog, Run, TestResultSummary, TestResultSummary)}.
+     *
+     * @param log the build logger
+     * @param build the current build
+     * @param testResult the test counts of the current build
+     * @param previousResult the test counts of the previous build, if any
+     * @param failureDelta the exact new and fixed failures compared to the
+     *        previous build, {@code null} if not available
+     * @return the build result for this threshold
+     */
+    public Result getResultThresholdPercent(XUnitLog log,
+                                            Run<?, ?> build,
+                                            TestResultSummary testResult,
+                                            TestResultSummary previousResult,
+                                            @CheckForNull FailureDelta failureDelta) {
+        return getResultThresholdPercent(log, build, testResult, previousResult);
+    }
+
     public abstract boolean isValidThreshold(double threshold, double value);
 
     public Result getResultThresholdNumber(XUnitLog log, int testCount, int newTestCount) {
@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.apache.commons.io.IOUtils;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import hudson.ProxyConfiguration;
+import hudson.Util;
+
+/**
+ * Keeps on disk the resources downloaded over HTTP and revalidates them with
+ * conditional requests using their ETag and Last-Modified headers.
+ * <p>
+ * When the server is unreachable, or replies with an error, the cached copy
+ * is served if it was validated within the staleness window.
+ *
+ * @author Nikolas Falco
+ */
+public class DownloadableResourceCache {
+    private static final Logger LOGGER = Logger.getLogger(DownloadableResourceCache.class.getName());
+
+    private static final String SOURCE = "url";
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "lastModified";
+    private static final String VALIDATED = "validated";
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+
+    private final File cacheDir;
+    private final long maxStale;
+
+    /**
+     * Default constructor.
+     *
+     * @param cacheDir the folder where resources are stored
+     * @param maxStale milliseconds since the last validation during which a
+     *        cached resource is served if the server is not available
+     */
+    public DownloadableResourceCache(@NonNull File cacheDir, long maxStale) {
+        this.cacheDir = cacheDir;
+        this.maxStale = maxStale;
+    }
+
+    /**
+     * Returns the content of the resource at the given URL, downloading it
+     * only if the cached copy is missing or changed.
+     *
+     * @param url of the resource
+     * @return the content of the resource
+     * @throws IOException if the resource could not be downloaded and there
+     *         is not a cached copy recent enough
+     */
+    public String get(@NonNull String url) throws IOException {
+        URL resource = new URL(url);
+        if (!resource.getProtocol().startsWith("http")) {
+            return DownloadableResourceUtil.download(url);
+        }
+
+        String key = Util.getDigestOf(url);
+        synchronized (LOCKS.computeIfAbsent(key, k -> new Object())) {
+            File content = new File(cacheDir, key + ".cache");
+            File metadata = new File(cacheDir, key + ".properties");
+            Properties cached = load(url, content, metadata);
+
+            try {
+                URLConnection con = ProxyConfiguration.open(resource);
+                if (cached != null) {
+                    String etag = cached.getProperty(ETAG);
+                    if (etag != null) {
+                        con.setRequestProperty("If-None-Match", etag);
+                    }
+                    String lastModified = cached.getProperty(LAST_MODIFIED);
+                    if (lastModified != null) {
+                        con.setRequestProperty("If-Modified-Since", lastModified);
+                    }
+                }
+                con.connect();
+
+                int responseCode = ((HttpURLConnection) con).getResponseCode();
+                if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+                    cached.setProperty(VALIDATED, String.valueOf(System.currentTimeMillis()));
+                    store(metadata, cached);
+                    return read(content);
+                }
+                if (responseCode != HttpURLConnection.HTTP_OK) {
+                    throw new IOException("Can not download resource " + url + " due to server error: " + responseCode);
+                }
+
+                String body;
+                try (InputStream in = con.getInputStream()) {
+                    body = IOUtils.toString(in, StandardCharsets.UTF_8);
+                }
+                Properties updated = new Properties();
+                updated.setProperty(SOURCE, url);
+                setProperty(updated, ETAG, con.getHeaderField("ETag"));
+                setProperty(updated, LAST_MODIFIED, con.getHeaderField("Last-Modified"));
+                updated.setProperty(VALIDATED, String.valueOf(System.currentTimeMillis()));
+                // kept also without validators to be served when the server is down
+                write(content, body.getBytes(StandardCharsets.UTF_8));
+                store(metadata, updated);
+                return body;
+            } catch (IOException e) {
+                if (cached != null && System.currentTimeMillis() - Long.parseLong(cached.getProperty(VALIDATED, "0")) <= maxStale) {
+                    LOGGER.log(Level.WARNING, "Serving the cached copy of " + url + " because it could not be revalidated", e);
+                    return read(content);
+                }
+                throw e;
+            }
+        }
+    }
+
+    @CheckForNull
+    private Properties load(String url, File content, File metadata) {
+        if (!content.isFile() || !metadata.isFile()) {
+            return null;
+        }
+        Properties cached = new Properties();
+        try (InputStream in = Files.newInputStream(metadata.toPath())) {
+            cached.load(in);
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Ignoring the unreadable cache entry of " + url, e);
+            return null;
+        }
+        // guard against digest collisions
+        return url.equals(cached.getProperty(SOURCE)) ? cached : null;
+    }
+
+    private String read(File content) throws IOException {
+        return new String(Files.readAllBytes(content.toPath()), StandardCharsets.UTF_8);
+    }
+
+    private void store(File metadata, Properties properties) throws IOException {
+        Path tmp = newTempFile(metadata);
+        try (OutputStream out = Files.newOutputStream(tmp)) {
+            properties.store(out, null);
+        }
+        move(tmp, metadata);
+    }
+
+    private void write(File content, byte[] body) throws IOException {
+        Path tmp = newTempFile(content);
+        Files.write(tmp, body);
+        move(tmp, content);
+    }
+
+    private Path newTempFile(File target) throws IOException {
+        Files.createDirectories(cacheDir.toPath());
+        return Files.createTempFile(cacheDir.toPath(), target.getName(), ".tmp");
+    }
+
+    private void move(Path source, File target) throws IOException {
+        try {
+            Files.move(source, target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    private static void setProperty(Properties properties, String key, @CheckForNull String value) {
+        if (value != null) {
+            properties.setProperty(key, value);
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import hudson.model.Run;
+
+class BuildSaverTest {
+
+    private final Run<?, ?> build = mock(Run.class);
+
+    @AfterEach
+    void tearDown() {
+        XUnitProcessor.SAVE_QUIET_PERIOD = 0;
+        BuildSaver.flush(build);
+    }
+
+    @Test
+    void saves_immediately_without_quiet_period() throws Exception {
+        BuildSaver.save(build);
+        BuildSaver.save(build);
+
+        verify(build, times(2)).save();
+    }
+
+    @Test
+    void saves_are_coalesced_until_flush() throws Exception {
+        XUnitProcessor.SAVE_QUIET_PERIOD = 60000;
+
+        BuildSaver.save(build);
+        BuildSaver.save(build);
+        BuildSaver.save(build);
+        verify(build, never()).save();
+
+        BuildSaver.flush(build);
+        BuildSaver.flush(build);
+        verify(build, times(1)).save();
+    }
+
+    @Test
+    void saves_after_the_quiet_period() throws Exception {
+        XUnitProcessor.SAVE_QUIET_PERIOD = 50;
+
+        BuildSaver.save(build);
+        BuildSaver.save(build);
+
+        verify(build, timeout(5000).times(1)).save();
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import hudson.model.Run;
+import hudson.model.TaskListener;
+import hudson.util.StreamTaskListener;
+import io.jenkins.plugins.checks.api.ChecksDetails;
+import io.jenkins.plugins.checks.api.ChecksPublisher;
+import io.jenkins.plugins.checks.api.ChecksStatus;
+
+class ChecksPublishingQueueTest {
+
+    private final Run<?, ?> build = mock(Run.class);
+
+    @Test
+    void checks_are_published_in_background() throws Exception {
+        ChecksPublishingQueue queue = new ChecksPublishingQueue(2, 10, 3, 10);
+        FakePublisher publisher = new FakePublisher(0);
+
+        assertThat(queue.submit(build, l -> publisher, details("Tests", "1"))).isTrue();
+
+        awaitCompletion(queue);
+        assertThat(publisher.urls()).containsExactly("1");
+        assertThat(report(queue)).isEmpty();
+    }
+
+    @Test
+    void failed_publications_are_retried() throws Exception {
+        ChecksPublishingQueue queue = new ChecksPublishingQueue(2, 10, 3, 10);
+        FakePublisher publisher = new FakePublisher(2);
+
+        queue.submit(build, l -> publisher, details("Tests", "1"));
+
+        awaitCompletion(queue);
+        assertThat(publisher.attempts.get()).isEqualTo(3);
+        assertThat(publisher.urls()).containsExactly("1");
+        assertThat(report(queue)).isEmpty();
+    }
+
+    @Test
+    void failures_are_reported_when_build_completes() throws Exception {
+        ChecksPublishingQueue queue = new ChecksPublishingQueue(2, 10, 2, 10);
+        FakePublisher publisher = new FakePublisher(Integer.MAX_VALUE);
+
+        queue.submit(build, l -> publisher, details("Tests", "1"));
+
+        awaitCompletion(queue);
+        assertThat(publisher.attempts.get()).isEqualTo(2);
+        assertThat(report(queue)).contains("Publishing XUnit checks 'Tests' failed after 2 attempt(s): backend unavailable");
+        // already reported
+        assertThat(report(queue)).isEmpty();
+    }
+
+    @Test
+    void errors_logged_by_the_publisher_are_retried() throws Exception {
+        ChecksPublishingQueue queue = new ChecksPublishingQueue(2, 10, 2, 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        queue.submit(build, l -> new LoggingPublisher(l, attempts, true), details("Tests", "1"));
+
+        awaitCompletion(queue);
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(report(queue)).contains("Publishing XUnit checks 'Tests' failed after 2 attempt(s)", "backend unavailable");
+    }
+
+    @Test
+    void publisher_output_is_reported_when_build_completes() throws Exception {
+        ChecksPublishingQueue queue = new ChecksPublishingQueue(2, 10, 2, 10);
+        AtomicInteger attempts = new AtomicInteger();
+
+        queue.submit(build, l -> new LoggingPublisher(l, attempts, false), details("Tests", "1"));
+
+        awaitCompletion(queue);
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(report(queue)).contains("Output of the last publication of XUnit checks 'Tests':", "backend unavailable");
+        // already reported
+        assertThat(report(queue)).isEmpty();
+    }
+
+    @Test
+    void queued_checks_are_replaced_by_newer_ones() throws Exception {
+        ChecksPublishingQueue queue = new ChecksPublishingQueue(1, 10, 3, 10);
+        FakePublisher publisher = new FakePublisher(0);
+        publisher.block();
+
+        queue.submit(build, l -> publisher, details("Tests", "1"));
+        publisher.awaitStarted();
+        queue.submit(build, l -> publisher, details("Tests", "2"));
+        queue.submit(build, l -> publisher, details("Tests", "3"));
+        publisher.release();
+
+        awaitCompletion(queue);
+        assertThat(publisher.urls()).containsExactly("1", "3");
+    }
+
+    @Test
+    void submit_fails_when_queue_is_full() throws Exception {
+        ChecksPublishingQueue queue = new ChecksPublishingQueue(1, 1, 3, 10);
+        FakePublisher publisher = new FakePublisher(0);
+        publisher.block();
+
+        assertThat(queue.submit(build, l -> publisher, details("first", "1"))).isTrue();
+        publisher.awaitStarted();
+        assertThat(queue.submit(build, l -> publisher, details("second", "2"))).isTrue();
+        assertThat(queue.submit(build, l -> publisher, details("third", "3"))).isFalse();
+        assertThat(report(queue)).contains("2 XUnit checks are still being published");
+        publisher.release();
+    }
+
+    private ChecksDetails details(String name, String url) {
+        return new ChecksDetails.ChecksDetailsBuilder() //
+                .withName(name) //
+                .withStatus(ChecksStatus.COMPLETED) //
+                .withDetailsURL(url) //
+                .build();
+    }
+
+    private void awaitCompletion(ChecksPublishingQueue queue) throws InterruptedException {
+        long timeout = System.currentTimeMillis() + 5000;
+        while (queue.countPending(build) > 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertThat(queue.countPending(build)).isZero();
+    }
+
+    private String report(ChecksPublishingQueue queue) {
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        queue.report(build, new StreamTaskListener(log, StandardCharsets.UTF_8));
+        return log.toString(StandardCharsets.UTF_8);
+    }
+
+    /*
+     * Reports failures to the listener like the real publishers do.
+     */
+    private static class LoggingPublisher extends ChecksPublisher {
+        private final TaskListener listener;
+        private final AtomicInteger attempts;
+        private final boolean error;
+
+        LoggingPublisher(TaskListener listener, AtomicInteger attempts, boolean error) {
+            this.listener = listener;
+            this.attempts = attempts;
+            this.error = error;
+        }
+
+        @Override
+        public void publish(ChecksDetails details) {
+            attempts.incrementAndGet();
+            if (error) {
+                listener.error("backend unavailable");
+            } else {
+                listener.getLogger().println("backend unavailable");
+            }
+        }
+    }
+
+    private static class FakePublisher extends ChecksPublisher {
+        private final int failures;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final List<ChecksDetails> published = new CopyOnWriteArrayList<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private CountDownLatch blocked = new CountDownLatch(0);
+
+        FakePublisher(int failures) {
+            this.failures = failures;
+        }
+
+        @Override
+        public void publish(ChecksDetails details) {
+            started.countDown();
+            try {
+                blocked.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (attempts.incrementAndGet() <= failures) {
+                throw new IllegalStateException("backend unavailable");
+            }
+            published.add(details);
+        }
+
+        void block() {
+            blocked = new CountDownLatch(1);
+        }
+
+        void release() {
+            blocked.countDown();
+        }
+
+        void awaitStarted() throws InterruptedException {
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        List<String> urls() {
+            return published.stream().map(d -> d.getDetailsURL().orElseThrow()).toList();
+        }
+    }
+
+}
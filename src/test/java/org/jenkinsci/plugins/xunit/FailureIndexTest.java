@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+
+import org.jenkinsci.plugins.xunit.threshold.FailureDelta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hudson.model.Run;
+
+class FailureIndexTest {
+
+    @TempDir
+    private File buildDir;
+
+    @Test
+    void compare_counts_new_and_fixed_failures() {
+        long[] previous = { -5, 1, 3, 7, 9 };
+        long[] current = { -8, 1, 4, 7 };
+
+        FailureDelta delta = FailureIndex.compare(current, previous);
+        assertThat(delta.getNewFailCount()).isEqualTo(2);
+        assertThat(delta.getFixedCount()).isEqualTo(3);
+    }
+
+    @Test
+    void union_keeps_hashes_sorted_and_distinct() {
+        assertThat(FailureIndex.union(new long[] { -3, 1, 5 }, new long[] { -3, 2, 5, 8 })).containsExactly(-3, 1, 2, 5, 8);
+        assertThat(FailureIndex.union(new long[0], new long[] { 4 })).containsExactly(4);
+    }
+
+    @Test
+    void hash_depends_on_the_whole_name() {
+        assertThat(FailureIndex.hash("org.example.FooTest.test1")).isNotEqualTo(FailureIndex.hash("org.example.FooTest.test2"));
+        assertThat(FailureIndex.hash("org.example.FooTest.test1")).isEqualTo(FailureIndex.hash("org.example.FooTest.test1"));
+    }
+
+    @Test
+    void appends_to_the_index_of_the_build() throws Exception {
+        Run<?, ?> build = mock(Run.class);
+        when(build.getRootDir()).thenReturn(buildDir);
+
+        assertThat(FailureIndex.read(build)).isNull();
+
+        FailureIndex.append(build, new long[] { 1, 5 });
+        FailureIndex.append(build, new long[] { -2, 5, 9 });
+
+        assertThat(FailureIndex.read(build)).containsExactly(-2, 1, 5, 9);
+        assertThat(new File(buildDir, FailureIndex.FILE_NAME)).isFile();
+    }
+
+}
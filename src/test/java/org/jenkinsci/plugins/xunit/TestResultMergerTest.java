@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.tools.ant.DirectoryScanner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+import hudson.model.FreeStyleBuild;
+import hudson.model.TaskListener;
+import hudson.tasks.junit.TestResult;
+import hudson.tasks.junit.TestResultAction;
+
+@WithJenkins
+class TestResultMergerTest {
+
+    @TempDir
+    private File reports;
+
+    private JenkinsRule jenkinsRule;
+
+    @BeforeEach
+    void setUp(JenkinsRule rule) {
+        jenkinsRule = rule;
+    }
+
+    @Test
+    void concurrent_results_are_all_merged() throws Exception {
+        FreeStyleBuild build = jenkinsRule.buildAndAssertSuccess(jenkinsRule.createFreeStyleProject());
+        int branches = 40;
+        List<TestResult> results = new ArrayList<>();
+        for (int i = 0; i < branches; i++) {
+            results.add(newResult("suite" + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(branches);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> appended = new ArrayList<>();
+            for (TestResult result : results) {
+                appended.add(executor.submit(() -> {
+                    start.await();
+                    return TestResultMerger.of(build).merge(build, result, r -> Collections.emptyList(), TaskListener.NULL);
+                }));
+            }
+            start.countDown();
+
+            int appendedCount = 0;
+            for (Future<Boolean> future : appended) {
+                appendedCount += future.get() ? 1 : 0;
+            }
+            assertThat(appendedCount).isEqualTo(branches - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        TestResultAction action = build.getAction(TestResultAction.class);
+        assertThat(action).isNotNull();
+        assertThat(action.getResult().getSuites()).hasSize(branches);
+        assertThat(action.getTotalCount()).isEqualTo(branches * 2);
+        assertThat(action.getFailCount()).isEqualTo(branches);
+    }
+
+    @Test
+    void appends_to_recorded_results() throws Exception {
+        FreeStyleBuild build = jenkinsRule.buildAndAssertSuccess(jenkinsRule.createFreeStyleProject());
+
+        assertThat(TestResultMerger.of(build).merge(build, newResult("first"), r -> Collections.emptyList(), TaskListener.NULL)).isFalse();
+        assertThat(TestResultMerger.of(build).merge(build, newResult("second"), r -> Collections.emptyList(), TaskListener.NULL)).isTrue();
+
+        assertThat(build.getAction(TestResultAction.class).getTotalCount()).isEqualTo(4);
+    }
+
+    @Test
+    void test_data_are_contributed_once_the_result_refers_the_action() throws Exception {
+        FreeStyleBuild build = jenkinsRule.buildAndAssertSuccess(jenkinsRule.createFreeStyleProject());
+        List<Object> parents = new ArrayList<>();
+        TestResultMerger.DataContributor contributor = r -> {
+            parents.add(r.getParentAction());
+            return Collections.emptyList();
+        };
+
+        TestResultMerger.of(build).merge(build, newResult("first"), contributor, TaskListener.NULL);
+        TestResultMerger.of(build).merge(build, newResult("second"), contributor, TaskListener.NULL);
+
+        TestResultAction action = build.getAction(TestResultAction.class);
+        assertThat(parents).containsExactly(action, action);
+    }
+
+    @Test
+    void failing_contributor_fails_only_its_step() throws Exception {
+        FreeStyleBuild build = jenkinsRule.buildAndAssertSuccess(jenkinsRule.createFreeStyleProject());
+        int branches = 10;
+
+        ExecutorService executor = Executors.newFixedThreadPool(branches);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> appended = new ArrayList<>();
+            for (int i = 0; i < branches; i++) {
+                TestResult result = newResult("suite" + i);
+                boolean failing = i == 3;
+                appended.add(executor.submit(() -> {
+                    start.await();
+                    return TestResultMerger.of(build).merge(build, result, r -> {
+                        if (failing) {
+                            throw new IOException("contributor failure");
+                        }
+                        return Collections.emptyList();
+                    }, TaskListener.NULL);
+                }));
+            }
+            start.countDown();
+
+            for (int i = 0; i < branches; i++) {
+                Future<Boolean> future = appended.get(i);
+                if (i == 3) {
+                    assertThatThrownBy(future::get).hasCauseInstanceOf(IOException.class);
+                } else {
+                    future.get();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the result is recorded even if its test data are missing
+        assertThat(build.getAction(TestResultAction.class).getResult().getSuites()).hasSize(branches);
+    }
+
+    private TestResult newResult(String suite) throws Exception {
+        File folder = new File(reports, suite);
+        FileUtils.write(new File(folder, "TEST-" + suite + ".xml"), "<testsuite name=\"" + suite + "\" tests=\"2\" failures=\"1\">" //
+                + "<testcase classname=\"" + suite + "\" name=\"ok\" />" //
+                + "<testcase classname=\"" + suite + "\" name=\"ko\"><failure message=\"ko\" /></testcase>" //
+                + "</testsuite>", StandardCharsets.UTF_8);
+
+        DirectoryScanner scanner = new DirectoryScanner();
+        scanner.setBasedir(folder);
+        scanner.setIncludes(new String[] { "*.xml" });
+        scanner.scan();
+        TestResult result = new TestResult(0, scanner, false);
+        result.tally();
+        return result;
+    }
+
+}
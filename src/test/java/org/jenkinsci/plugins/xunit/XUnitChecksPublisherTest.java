@@ -24,6 +24,10 @@
 package org.jenkinsci.plugins.xunit;
 
 import hudson.model.Result;
+import hudson.model.Run;
+import hudson.tasks.junit.CaseResult;
+import hudson.tasks.junit.TestResult;
+import hudson.tasks.junit.TestResultSummary;
 import io.jenkins.plugins.checks.api.ChecksConclusion;
 import io.jenkins.plugins.checks.api.ChecksDetails;
 import io.jenkins.plugins.checks.api.ChecksOutput;
@@ -40,10 +44,19 @@ import org.jvnet.hudson.test.TestExtension;
 import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
 import org.jvnet.hudson.test.recipes.LocalData;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @WithJenkins
 public class XUnitChecksPublisherTest {
@@ -394,4 +407,137 @@ public class XUnitChecksPublisherTest {
         assertThat(checksDetails.get(1).getConclusion(), is(ChecksConclusion.SUCCESS));
     }
 
+    @LocalData
+    @Test
+    void liveChecksAreUpdatedForEachTool() throws Exception {
+        WorkflowJob job = rule.jenkins.createProject(WorkflowJob.class, "someFailed");
+
+        job.setDefinition(new CpsFlowDefinition("""
+                stage('first') {
+                  node {
+                    xunit(testTimeMargin: '3000',
+                          skipPublishingChecks: false,
+                          tools: [JUnit(deleteOutputFiles: false, failIfNotNew: false, pattern: '*.xml', skipNoTestFiles: false, stopProcessingIfError: true),
+                                  NUnit3(deleteOutputFiles: false, failIfNotNew: false, pattern: '*.nunit', skipNoTestFiles: true, stopProcessingIfError: true)]
+                    )
+                  }
+                }
+                """, true));
+        XUnitProcessor.LIVE_CHECKS = true;
+        try {
+            rule.assertBuildStatus(Result.SUCCESS, job.scheduleBuild2(0).get());
+        } finally {
+            XUnitProcessor.LIVE_CHECKS = false;
+        }
+
+        List<ChecksDetails> checksDetails = getDetails();
+        assertThat(checksDetails.size(), is(4));
+        for (ChecksDetails checksDetail : checksDetails) {
+            assertThat(checksDetail.getName().orElseThrow(), is("Tests / first"));
+        }
+
+        assertThat(checksDetails.get(0).getStatus(), is(ChecksStatus.IN_PROGRESS));
+        assertThat(checksDetails.get(0).getOutput().orElseThrow().getSummary().orElseThrow(), is("processed tools: 0 of 2"));
+        assertThat(checksDetails.get(1).getStatus(), is(ChecksStatus.IN_PROGRESS));
+        assertThat(checksDetails.get(1).getOutput().orElseThrow().getSummary().orElseThrow(), is("processed tools: 1 of 2, converted reports: 1"));
+        assertThat(checksDetails.get(2).getStatus(), is(ChecksStatus.IN_PROGRESS));
+        assertThat(checksDetails.get(2).getOutput().orElseThrow().getSummary().orElseThrow(), is("processed tools: 2 of 2, converted reports: 1"));
+
+        assertThat(checksDetails.get(3).getStatus(), is(ChecksStatus.COMPLETED));
+        assertThat(checksDetails.get(3).getOutput().orElseThrow().getSummary().orElseThrow(), is("total: 4, failed: 2, passed: 2"));
+    }
+
+    @LocalData
+    @Test
+    void liveChecksAreCompletedWhenProcessingFails() throws Exception {
+        WorkflowJob job = rule.jenkins.createProject(WorkflowJob.class, "someFailed");
+
+        job.setDefinition(new CpsFlowDefinition("""
+                stage('first') {
+                  node {
+                    xunit(testTimeMargin: '3000',
+                          skipPublishingChecks: false,
+                          tools: [NUnit3(deleteOutputFiles: false, failIfNotNew: false, pattern: '*.nunit', skipNoTestFiles: false, stopProcessingIfError: true)]
+                    )
+                  }
+                }
+                """, true));
+        XUnitProcessor.LIVE_CHECKS = true;
+        try {
+            rule.assertBuildStatus(Result.FAILURE, job.scheduleBuild2(0).get());
+        } finally {
+            XUnitProcessor.LIVE_CHECKS = false;
+        }
+
+        List<ChecksDetails> checksDetails = getDetails();
+        assertThat(checksDetails.size(), is(2));
+        assertThat(checksDetails.get(0).getStatus(), is(ChecksStatus.IN_PROGRESS));
+
+        ChecksDetails failure = checksDetails.get(1);
+        assertThat(failure.getName().orElseThrow(), is("Tests / first"));
+        assertThat(failure.getStatus(), is(ChecksStatus.COMPLETED));
+        assertThat(failure.getConclusion(), is(ChecksConclusion.FAILURE));
+        assertThat(failure.getOutput().orElseThrow().getTitle().orElseThrow(), is("Processing test results failed"));
+    }
+
+    @LocalData
+    @Test
+    void liveChecksHaveRunningTotalsWithDirectResults() throws Exception {
+        WorkflowJob job = rule.jenkins.createProject(WorkflowJob.class, "someFailed");
+
+        job.setDefinition(new CpsFlowDefinition("""
+                node {
+                  xunit(testTimeMargin: '3000',
+                        skipPublishingChecks: false,
+                        tools: [JUnit(deleteOutputFiles: true, failIfNotNew: false, pattern: '*.xml', skipNoTestFiles: false, stopProcessingIfError: true)]
+                  )
+                }
+                """, true));
+        XUnitProcessor.LIVE_CHECKS = true;
+        XUnitProcessor.DIRECT_RESULTS = true;
+        try {
+            rule.assertBuildStatus(Result.SUCCESS, job.scheduleBuild2(0).get());
+        } finally {
+            XUnitProcessor.LIVE_CHECKS = false;
+            XUnitProcessor.DIRECT_RESULTS = false;
+        }
+
+        List<ChecksDetails> checksDetails = getDetails();
+        assertThat(checksDetails.size(), is(3));
+
+        ChecksOutput output = checksDetails.get(1).getOutput().orElseThrow();
+        assertThat(checksDetails.get(1).getStatus(), is(ChecksStatus.IN_PROGRESS));
+        assertThat(output.getTitle().orElseThrow(), is("There were test failures"));
+        assertThat(output.getSummary().orElseThrow(), is("processed tools: 1 of 1, total: 4, failed: 2, passed: 2"));
+
+        assertThat(checksDetails.get(2).getStatus(), is(ChecksStatus.COMPLETED));
+    }
+
+    @Test
+    void extractChecksTextIsBoundedWithManyFailures() {
+        String output = "x".repeat(1024 * 1024);
+        List<CaseResult> failedTests = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            CaseResult failedTest = mock(CaseResult.class);
+            when(failedTest.getTransformedFullDisplayName()).thenReturn("MyTest.test" + i);
+            when(failedTest.getErrorDetails()).thenReturn("failure for test" + i);
+            when(failedTest.getErrorStackTrace()).thenReturn(output);
+            when(failedTest.getStdout()).thenReturn(output);
+            failedTests.add(failedTest);
+        }
+        TestResult testResult = mock(TestResult.class);
+        when(testResult.getFailedTests()).thenReturn(failedTests);
+        TestResultSummary summary = new TestResultSummary(failedTests.size(), 0, 0, failedTests.size());
+
+        XUnitChecksPublisher publisher = new XUnitChecksPublisher(mock(Run.class), "Tests", new XUnitProcessorResult(summary, testResult), Result.FAILURE);
+        String text = publisher.extractChecksText("http://localhost/tests");
+
+        assertThat(text.length(), lessThanOrEqualTo(65535));
+        assertThat(text, startsWith("## `MyTest.test0`\n\n```text\nfailure for test0\n```\n\n<details><summary>Stack trace</summary>\n"));
+        assertThat(text, containsString("\n... (truncated)\n```\n</details>\n"));
+        assertThat(text, endsWith("\nmore test results are not shown here, view them on [Jenkins](http://localhost/tests)"));
+        // rendering stops as soon as the budget is used up
+        verify(failedTests.get(100), never()).getTransformedFullDisplayName();
+    }
+
 }
@@ -0,0 +1,235 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.jenkinsci.lib.dtkit.type.TestType;
+import org.jenkinsci.plugins.xunit.threshold.XUnitThreshold;
+import org.jenkinsci.plugins.xunit.types.AbstractTestType;
+import org.jenkinsci.plugins.xunit.types.GoogleTestType;
+import org.jenkinsci.plugins.xunit.types.JUnitType;
+import org.jenkinsci.plugins.xunit.types.NUnitJunitHudsonTestType;
+import org.jenkinsci.plugins.xunit.types.PHPUnitJunitHudsonTestType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.jvnet.hudson.test.JenkinsRule;
+import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
+
+import hudson.FilePath;
+import hudson.model.FreeStyleBuild;
+import hudson.model.FreeStyleProject;
+import hudson.remoting.Channel;
+import hudson.remoting.Command;
+import hudson.remoting.VirtualChannel;
+import hudson.slaves.DumbSlave;
+import hudson.tasks.test.AbstractTestResultAction;
+import jenkins.MasterToSlaveFileCallable;
+import jenkins.security.MasterToSlaveCallable;
+import net.sf.json.JSONArray;
+import net.sf.json.JSONObject;
+
+/**
+ * Processes workspaces with a growing number of reports on an agent and
+ * writes wall time, peak heap and remoting traffic of each run as JSON, run
+ * with {@code -Dxunit.benchmark=true}.
+ * <p>
+ * The results go in {@code target/xunit-scalability.json} unless
+ * {@code xunit.benchmark.output} says otherwise.
+ */
+@WithJenkins
+@EnabledIfSystemProperty(named = "xunit.benchmark", matches = "true")
+class XUnitScalabilityTest {
+
+    private enum Tool {
+        GOOGLETEST("googletest/testcase2/input.xml", GoogleTestType::new), //
+        JUNIT("junit/testcase1/input.xml", JUnitType::new), //
+        NUNIT("nunit/testcase1/input.xml", NUnitJunitHudsonTestType::new), //
+        PHPUNIT("phpunit/testcase1/input.xml", PHPUnitJunitHudsonTestType::new);
+
+        private final String resource;
+        private final Function<String, AbstractTestType> factory;
+
+        Tool(String resource, Function<String, AbstractTestType> factory) {
+            this.resource = resource;
+            this.factory = factory;
+        }
+    }
+
+    private static final JSONArray RESULTS = new JSONArray();
+
+    private JenkinsRule jenkinsRule;
+
+    @BeforeEach
+    void setUp(JenkinsRule rule) {
+        jenkinsRule = rule;
+    }
+
+    @AfterAll
+    static void writeResults() throws IOException {
+        JSONObject json = new JSONObject();
+        json.put("timestamp", Instant.now().toString());
+        json.put("java", System.getProperty("java.version"));
+        json.put("processors", Runtime.getRuntime().availableProcessors());
+        json.put("results", RESULTS);
+
+        File output = new File(System.getProperty("xunit.benchmark.output", "target/xunit-scalability.json"));
+        FileUtils.write(output, json.toString(2), StandardCharsets.UTF_8);
+    }
+
+    @ParameterizedTest(name = "{0} reports")
+    @ValueSource(ints = { 10, 1000, 16000, 100000 })
+    void process_reports(int reports) throws Exception {
+        DumbSlave agent = jenkinsRule.createOnlineSlave();
+        FreeStyleProject project = jenkinsRule.createFreeStyleProject();
+        project.setAssignedNode(agent);
+
+        FilePath workspace = agent.getWorkspaceFor(project);
+        Tool[] tools = Tool.values();
+        List<TestType> types = new ArrayList<>();
+        for (int i = 0; i < tools.length; i++) {
+            int count = reports / tools.length + (i < reports % tools.length ? 1 : 0);
+            byte[] content = IOUtils.toByteArray(getClass().getResourceAsStream("types/" + tools[i].resource));
+            workspace.child(tools[i].name()).act(new WriteReports(content, count));
+
+            AbstractTestType type = tools[i].factory.apply(tools[i].name() + "/*.xml");
+            type.setFailIfNotNew(false);
+            type.setDeleteOutputFiles(true);
+            type.setStopProcessingIfError(true);
+            types.add(type);
+        }
+
+        XUnitPublisher publisher = new XUnitPublisher(types.toArray(new TestType[0]), new XUnitThreshold[0], 1, "3000");
+        publisher.setSkipPublishingChecks(true);
+        project.getPublishersList().add(publisher);
+
+        VirtualChannel channel = agent.getChannel();
+        TrafficCounter traffic = new TrafficCounter();
+        ((Channel) channel).addListener(traffic);
+        new PeakHeap(true).call();
+        channel.call(new PeakHeap(true));
+
+        FreeStyleBuild build = jenkinsRule.buildAndAssertSuccess(project);
+
+        ((Channel) channel).removeListener(traffic);
+        AbstractTestResultAction<?> testResult = build.getAction(AbstractTestResultAction.class);
+        assertThat(testResult).isNotNull();
+
+        JSONObject result = new JSONObject();
+        result.put("reports", reports);
+        result.put("tests", testResult.getTotalCount());
+        result.put("wallTime", build.getDuration());
+        result.put("controllerPeakHeap", new PeakHeap(false).call());
+        result.put("agentPeakHeap", channel.call(new PeakHeap(false)));
+        result.put("remotingBytesRead", traffic.read.get());
+        result.put("remotingBytesWritten", traffic.written.get());
+        RESULTS.add(result);
+    }
+
+    private static class WriteReports extends MasterToSlaveFileCallable<Void> {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] content;
+        private final int count;
+
+        WriteReports(byte[] content, int count) {
+            this.content = content;
+            this.count = count;
+        }
+
+        @Override
+        public Void invoke(File folder, VirtualChannel channel) throws IOException {
+            Files.createDirectories(folder.toPath());
+            for (int i = 0; i < count; i++) {
+                try (OutputStream out = Files.newOutputStream(new File(folder, "report-" + i + ".xml").toPath())) {
+                    out.write(content);
+                    // makes each report unique so that conversions are not served from the cache
+                    out.write(("\n<!-- " + i + " -->\n").getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            return null;
+        }
+    }
+
+    private static class PeakHeap extends MasterToSlaveCallable<Long, RuntimeException> {
+        private static final long serialVersionUID = 1L;
+
+        private final boolean reset;
+
+        PeakHeap(boolean reset) {
+            this.reset = reset;
+        }
+
+        @Override
+        public Long call() {
+            System.gc();
+            long peak = 0;
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    if (reset) {
+                        pool.resetPeakUsage();
+                    } else {
+                        peak += pool.getPeakUsage().getUsed();
+                    }
+                }
+            }
+            return peak;
+        }
+    }
+
+    private static class TrafficCounter extends Channel.Listener {
+        private final AtomicLong read = new AtomicLong();
+        private final AtomicLong written = new AtomicLong();
+
+        @Override
+        public void onRead(Channel channel, Command cmd, long blockSize) {
+            read.addAndGet(blockSize);
+        }
+
+        @Override
+        public void onWrite(Channel channel, Command cmd, long blockSize) {
+            written.addAndGet(blockSize);
+        }
+    }
+
+}
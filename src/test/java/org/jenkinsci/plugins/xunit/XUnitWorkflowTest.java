@@ -24,8 +24,12 @@
 package org.jenkinsci.plugins.xunit;
 
 import hudson.FilePath;
+import hudson.model.Label;
 import hudson.model.Result;
 import org.jenkinsci.plugins.workflow.cps.CpsFlowDefinition;
+import org.jenkinsci.plugins.xunit.service.PhaseTimings.Entry;
+import org.jenkinsci.plugins.xunit.service.PhaseTimings.Phase;
+import org.jenkinsci.plugins.xunit.types.JUnitType;
 import org.jenkinsci.plugins.workflow.job.WorkflowJob;
 import org.jenkinsci.plugins.workflow.job.WorkflowRun;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +39,9 @@ import org.jvnet.hudson.test.JenkinsRule;
 import org.jvnet.hudson.test.junit.jupiter.WithJenkins;
 import org.jvnet.hudson.test.recipes.LocalData;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
 @WithJenkins
 class XUnitWorkflowTest {
 
@@ -120,4 +127,64 @@ class XUnitWorkflowTest {
         jenkinsRule.assertLogNotContains(Messages.xUnitProcessor_emptyReport(), run);
     }
 
+    @Test
+    void phasesOfRemoteCallsAreRecordedOnce() throws Exception {
+        jenkinsRule.createOnlineSlave(Label.get("remote"));
+        WorkflowJob job = jenkinsRule.jenkins.createProject(WorkflowJob.class, "remoteTimings");
+        job.setDefinition(new CpsFlowDefinition("""
+                node('remote') {
+                  writeFile file: 'a/TEST-a.xml', text: '<testsuite errors="0" failures="0" name="a" tests="1" time="1.0"><testcase classname="a" name="t" time="1.0"/></testsuite>'
+                  writeFile file: 'b/TEST-b.xml', text: '<testsuite errors="0" failures="0" name="b" tests="1" time="1.0"><testcase classname="b" name="t" time="1.0"/></testsuite>'
+                  xunit(testTimeMargin: '3000',
+                        tools: [JUnit(deleteOutputFiles: false, failIfNotNew: false, pattern: 'a/*.xml', skipNoTestFiles: false, stopProcessingIfError: true),
+                                JUnit(deleteOutputFiles: false, failIfNotNew: false, pattern: 'b/*.xml', skipNoTestFiles: false, stopProcessingIfError: true)],
+                        skipPublishingChecks: true
+                  )
+                }""", true));
+
+        XUnitProcessor.PHASE_TIMING = true;
+        WorkflowRun run;
+        try {
+            run = job.scheduleBuild2(0).get();
+        } finally {
+            XUnitProcessor.PHASE_TIMING = false;
+        }
+        jenkinsRule.assertBuildStatus(Result.SUCCESS, run);
+
+        // each tool is processed with its own call to the agent, followed by the parsing
+        XUnitTimingAction action = run.getAction(XUnitTimingAction.class);
+        assertThat(action.getPhases()).extracting(Entry::getTool, Entry::getPhase, Entry::getCount).contains( //
+                tuple("JUnit", Phase.DISCOVERY, 2L), //
+                tuple("JUnit", Phase.CONVERSION, 2L), //
+                tuple(null, Phase.PARSING, 1L));
+    }
+
+    @Test
+    void aggregatedCallReportsProcessedReportsOfEachTool() throws Exception {
+        WorkflowJob job = jenkinsRule.jenkins.createProject(WorkflowJob.class, "aggregated");
+        job.setDefinition(new CpsFlowDefinition("""
+                node {
+                  writeFile file: 'a/TEST-a1.xml', text: '<testsuite errors="0" failures="0" name="a1" tests="1" time="1.0"><testcase classname="a1" name="t" time="1.0"/></testsuite>'
+                  writeFile file: 'a/TEST-a2.xml', text: '<testsuite errors="0" failures="0" name="a2" tests="1" time="1.0"><testcase classname="a2" name="t" time="1.0"/></testsuite>'
+                  writeFile file: 'b/TEST-b.xml', text: '<testsuite errors="0" failures="0" name="b" tests="1" time="1.0"><testcase classname="b" name="t" time="1.0"/></testsuite>'
+                  xunit(testTimeMargin: '3000',
+                        tools: [JUnit(deleteOutputFiles: false, failIfNotNew: false, pattern: 'a/*.xml', skipNoTestFiles: false, stopProcessingIfError: true),
+                                JUnit(deleteOutputFiles: false, failIfNotNew: false, pattern: 'b/*.xml', skipNoTestFiles: false, stopProcessingIfError: true)],
+                        skipPublishingChecks: true
+                  )
+                }""", true));
+
+        XUnitProcessor.AGGREGATED_CALL = true;
+        WorkflowRun run;
+        try {
+            run = job.scheduleBuild2(0).get();
+        } finally {
+            XUnitProcessor.AGGREGATED_CALL = false;
+        }
+        jenkinsRule.assertBuildStatus(Result.SUCCESS, run);
+        String toolName = jenkinsRule.jenkins.getDescriptorByType(JUnitType.JUnitTypeDescriptor.class).getDisplayName();
+        jenkinsRule.assertLogContains(Messages.xUnitProcessor_processedReports(2, toolName), run);
+        jenkinsRule.assertLogContains(Messages.xUnitProcessor_processedReports(1, toolName), run);
+    }
+
 }
@@ -0,0 +1,83 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class XUnitEventTest {
+
+    @TempDir
+    private File folder;
+
+    @Test
+    void events_are_recorded_with_their_fields() throws Exception {
+        Path dump = new File(folder, "xunit.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable(ReportConversionEvent.class).withoutThreshold();
+            recording.start();
+
+            ReportConversionEvent event = new ReportConversionEvent();
+            event.begin();
+            if (event.shouldCommit()) {
+                event.setTool("GoogleTest");
+                event.setReport("reports/test.xml");
+                event.setFileSize(1024);
+                event.setOutcome(XUnitEvent.SUCCESS);
+                event.commit();
+            }
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+        assertThat(events).hasSize(1);
+        RecordedEvent event = events.get(0);
+        assertThat(event.getEventType().getName()).isEqualTo("org.jenkinsci.plugins.xunit.ReportConversion");
+        assertThat(event.getString("tool")).isEqualTo("GoogleTest");
+        assertThat(event.getString("report")).isEqualTo("reports/test.xml");
+        assertThat(event.getLong("fileSize")).isEqualTo(1024);
+        assertThat(event.getString("outcome")).isEqualTo(XUnitEvent.SUCCESS);
+        assertThat(event.getBoolean("cached")).isFalse();
+    }
+
+    @Test
+    void events_are_not_committed_without_recording() {
+        ReportDiscoveryEvent event = new ReportDiscoveryEvent();
+        event.begin();
+        assertThat(event.shouldCommit()).isFalse();
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConversionCacheTest {
+
+    @TempDir
+    private File folder;
+
+    @Test
+    void key_depends_on_stylesheet_and_content() throws Exception {
+        File report1 = newFile("report1.xml", "<testsuite/>");
+        File report2 = newFile("report2.xml", "<testsuite/>");
+        File report3 = newFile("report3.xml", "<testsuite name=\"other\"/>");
+
+        assertThat(ConversionCache.getKey("NUnit@1", report1)).isEqualTo(ConversionCache.getKey("NUnit@1", report2));
+        assertThat(ConversionCache.getKey("NUnit@1", report1)).isNotEqualTo(ConversionCache.getKey("NUnit@2", report1));
+        assertThat(ConversionCache.getKey("NUnit@1", report1)).isNotEqualTo(ConversionCache.getKey("NUnit@1", report3));
+    }
+
+    @Test
+    void stored_report_is_restored() throws Exception {
+        ConversionCache cache = new ConversionCache(new File(folder, "cache"), 1024);
+        File converted = newFile("converted.xml", "<testsuite/>");
+
+        File target = new File(folder, "target.xml");
+        assertThat(cache.restore("key", target)).isFalse();
+
+        cache.store("key", converted);
+        assertThat(cache.restore("key", target)).isTrue();
+        assertThat(FileUtils.readFileToString(target, StandardCharsets.UTF_8)).isEqualTo("<testsuite/>");
+    }
+
+    @Test
+    void least_recently_used_report_is_evicted() throws Exception {
+        File cacheDir = new File(folder, "cache");
+        ConversionCache cache = new ConversionCache(cacheDir, 50);
+        File converted = newFile("converted.xml", "<testsuite name=\"10\"/>");
+        File target = new File(folder, "target.xml");
+
+        cache.store("key1", converted);
+        cache.store("key2", converted);
+        // access key1 so that key2 becomes the eldest entry
+        assertThat(cache.restore("key1", target)).isTrue();
+        cache.store("key3", converted);
+
+        assertThat(cache.size()).isEqualTo(44);
+        assertThat(cache.restore("key2", target)).isFalse();
+        assertThat(cache.restore("key1", target)).isTrue();
+        assertThat(cacheDir.list()).containsExactlyInAnyOrder("key1.xml", "key3.xml");
+    }
+
+    @Test
+    void cache_is_reloaded_from_disk() throws Exception {
+        File cacheDir = new File(folder, "cache");
+        new ConversionCache(cacheDir, 1024).store("key", newFile("converted.xml", "<testsuite/>"));
+
+        ConversionCache cache = new ConversionCache(cacheDir, 1024);
+        assertThat(cache.size()).isEqualTo(12);
+        assertThat(cache.restore("key", new File(folder, "target.xml"))).isTrue();
+    }
+
+    private File newFile(String name, String content) throws Exception {
+        File file = new File(folder, name);
+        FileUtils.write(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class ConversionThrottleTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger samples = new AtomicInteger();
+
+    @Test
+    void idle_node_is_never_throttled() throws Exception {
+        ConversionThrottle throttle = new ConversionThrottle(1000, 0.8, () -> {
+            samples.incrementAndGet();
+            return 0.2;
+        }, clock::get, 30000);
+
+        for (int i = 1; i <= 200; i++) {
+            throttle.afterReport(i);
+        }
+        assertThat(throttle.isAdaptive()).isTrue();
+        assertThat(throttle.getThrottledTime()).isZero();
+        // the load is sampled at most once per second
+        assertThat(samples.get()).isZero();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        throttle.afterReport(201);
+        assertThat(samples.get()).isEqualTo(1);
+    }
+
+    @Test
+    void busy_node_is_throttled_until_load_decreases() throws Exception {
+        double[] loads = { 1.2, 0.9, 0.5 };
+        ConversionThrottle throttle = new ConversionThrottle(0, 0.8, () -> loads[Math.min(samples.getAndIncrement(), loads.length - 1)], clock::get, 30000);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        throttle.afterReport(1);
+        // 100 + 200 ms of increasing delay
+        assertThat(throttle.getThrottledTime()).isEqualTo(300);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        throttle.afterReport(2);
+        assertThat(throttle.getThrottledTime()).isEqualTo(300);
+        assertThat(samples.get()).isEqualTo(4);
+    }
+
+    @Test
+    void external_load_rising_during_the_conversion_throttles() throws Exception {
+        double[] loads = { 0.2, 0.3, 2.0, 0.5 };
+        ConversionThrottle throttle = new ConversionThrottle(0, 0.8, () -> loads[Math.min(samples.getAndIncrement(), loads.length - 1)], clock::get, 30000);
+
+        for (int i = 1; i <= 2; i++) {
+            clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+            throttle.afterReport(i);
+        }
+        assertThat(throttle.getThrottledTime()).isZero();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        throttle.afterReport(3);
+        assertThat(throttle.getThrottledTime()).isEqualTo(100);
+        assertThat(samples.get()).isEqualTo(4);
+    }
+
+    @Test
+    void load_of_the_conversion_itself_is_not_external() {
+        assertThat(ConversionThrottle.externalLoad(0.9, 0.7)).isCloseTo(0.2, within(0.0001));
+        assertThat(ConversionThrottle.externalLoad(0.5, 0.6)).isZero();
+    }
+
+    @Test
+    void pause_is_limited_when_node_stays_busy() throws Exception {
+        ConversionThrottle throttle = new ConversionThrottle(0, 0.8, () -> 2.0, clock::get, 500);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        throttle.afterReport(1);
+        // 100 + 200 + 200 ms, then the conversion continues
+        assertThat(throttle.getThrottledTime()).isEqualTo(500);
+    }
+
+    @Test
+    void other_workers_wait_the_pause_without_sampling() throws Exception {
+        ConversionThrottle throttle = new ConversionThrottle(0, 0.8, () -> {
+            samples.incrementAndGet();
+            return 2.0;
+        }, clock::get, 300);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        Thread worker = new Thread(() -> {
+            try {
+                throttle.afterReport(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        worker.start();
+        Thread.sleep(50);
+
+        long start = System.nanoTime();
+        throttle.afterReport(2);
+        worker.join();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(100);
+        assertThat(throttle.getThrottledTime()).isEqualTo(300);
+    }
+
+    @Test
+    void legacy_mode_does_not_sample_load() throws Exception {
+        ConversionThrottle throttle = new ConversionThrottle(10, 0, () -> {
+            samples.incrementAndGet();
+            return 10;
+        }, clock::get, 30000);
+
+        long start = System.nanoTime();
+        for (int i = 1; i <= 100; i++) {
+            throttle.afterReport(i);
+        }
+        assertThat(throttle.isAdaptive()).isFalse();
+        assertThat(samples.get()).isZero();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(20);
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang.SerializationUtils;
+import org.jenkinsci.plugins.xunit.service.PhaseTimings.Entry;
+import org.jenkinsci.plugins.xunit.service.PhaseTimings.Phase;
+import org.jenkinsci.plugins.xunit.types.JUnitInputMetric;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import hudson.remoting.VirtualChannel;
+import hudson.util.StreamTaskListener;
+
+class PhaseTimingsTest {
+
+    @TempDir
+    private File ws;
+
+    @Test
+    void measures_are_summed_per_tool_and_phase() throws Exception {
+        PhaseTimings timings = new PhaseTimings();
+        timings.stop(PhaseTimings.start(), "tool1", Phase.CONVERSION);
+        timings.stop(PhaseTimings.start(), "tool1", Phase.CONVERSION);
+        timings.stop(PhaseTimings.start(), "tool2", Phase.CONVERSION);
+        timings.stop(PhaseTimings.start(), null, Phase.MERGE);
+
+        PhaseTimings other = new PhaseTimings();
+        other.stop(PhaseTimings.start(), "tool2", Phase.CONVERSION);
+        timings.addAll(other);
+        timings.addAll(timings);
+
+        List<Entry> entries = timings.getEntries();
+        assertThat(entries).extracting(Entry::getTool, Entry::getPhase, Entry::getCount).containsExactly( //
+                tuple("tool1", Phase.CONVERSION, 2L), //
+                tuple("tool2", Phase.CONVERSION, 2L), //
+                tuple(null, Phase.MERGE, 1L));
+    }
+
+    @Test
+    void phases_recorded_on_the_node_are_returned() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            FileUtils.write(new File(ws, "reports/report" + i + ".xml"), "<testsuite errors=\"0\" failures=\"0\" name=\"s" + i + "\" tests=\"1\" time=\"1.0\"><testcase classname=\"s" + i + "\" name=\"t\" time=\"1.0\"/></testsuite>", StandardCharsets.UTF_8);
+        }
+        XUnitLog log = new XUnitLog(StreamTaskListener.fromStdout());
+        XUnitToolInfo toolInfo = new XUnitToolInfo(new JUnitInputMetric(), "reports/*.xml", false, false, true, false, 0, 3000, 0, null);
+        XUnitTransformerCallable transformer = new XUnitTransformerCallable(new XUnitReportProcessorService(log), new XUnitConversionService(log),
+                new XUnitValidationService(log), toolInfo, log);
+        PhaseTimings timings = new PhaseTimings();
+        transformer.setTimings(timings);
+
+        // simulate the transfer to the node, the transformer must record on the returned timings
+        @SuppressWarnings("unchecked")
+        XUnitTimedCallable<Integer> callable = (XUnitTimedCallable<Integer>) SerializationUtils.clone(new XUnitTimedCallable<>(transformer, timings, null));
+        XUnitTimedCallable.Result<Integer> result = callable.invoke(ws, mock(VirtualChannel.class));
+
+        assertThat(result.getValue()).isEqualTo(3);
+        assertThat(timings.isEmpty()).isTrue();
+        assertThat(result.getTimings().getEntries()).extracting(Entry::getPhase, Entry::getCount).contains( //
+                tuple(Phase.DISCOVERY, 1L), //
+                tuple(Phase.INPUT_VALIDATION, 3L), //
+                tuple(Phase.CONVERSION, 3L), //
+                tuple(Phase.OUTPUT_VALIDATION, 3L));
+    }
+
+}
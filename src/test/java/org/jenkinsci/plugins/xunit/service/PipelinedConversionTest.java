@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import org.apache.commons.io.FileUtils;
+import org.jenkinsci.plugins.xunit.types.BoostTest;
+import org.jenkinsci.plugins.xunit.types.JUnitInputMetric;
+import org.jenkinsci.plugins.xunit.types.NUnit;
+import org.jenkinsci.lib.dtkit.model.InputMetric;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.xmlunit.builder.DiffBuilder;
+import org.xmlunit.builder.Input;
+import org.xmlunit.diff.Diff;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PipelinedConversionTest {
+
+    @TempDir
+    private File folder;
+
+    @ParameterizedTest
+    @CsvSource({ "nunit, 1", "nunit, 2", "boosttest, 1", "boosttest, 5" })
+    void pipelined_conversion_produces_the_expected_report(String packageName, int testNumber) throws Exception {
+        InputMetric metric = "nunit".equals(packageName) ? new NUnit() : new BoostTest();
+        File inputFile = resource(packageName, testNumber, "input.xml");
+        File expectedFile = resource(packageName, testNumber, "result.xml");
+
+        PipelinedConversion.Result result = newService().convertPipelined(newToolInfo(metric), inputFile, folder);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getInputErrors()).isEmpty();
+        assertThat(result.getOutputErrors()).isEmpty();
+        Diff diff = DiffBuilder.compare(Input.fromString(FileUtils.readFileToString(expectedFile, StandardCharsets.UTF_8))) //
+                .withTest(Input.fromString(FileUtils.readFileToString(result.getTargetFile(), StandardCharsets.UTF_8))) //
+                .ignoreWhitespace() //
+                .ignoreComments() //
+                .normalizeWhitespace() //
+                .build();
+        assertThat(diff.hasDifferences()).as(diff.toString()).isFalse();
+    }
+
+    @Test
+    void pipelined_conversion_writes_the_report_as_the_stylesheet_output() throws Exception {
+        // the NUnit stylesheet declares cdata-section-elements
+        File inputFile = resource("nunit", 2, "input.xml");
+        XUnitToolInfo toolInfo = newToolInfo(new NUnit());
+
+        PipelinedConversion.Result result = newService().convertPipelined(toolInfo, inputFile, new File(folder, "pipelined"));
+        toolInfo.setPipelined(false);
+        File expectedFile = newService().convert(toolInfo, inputFile, new File(folder, "legacy"));
+
+        assertThat(result).isNotNull();
+        String expected = FileUtils.readFileToString(expectedFile, StandardCharsets.UTF_8);
+        String actual = FileUtils.readFileToString(result.getTargetFile(), StandardCharsets.UTF_8);
+        assertThat(actual).contains("<![CDATA[");
+        Diff diff = DiffBuilder.compare(Input.fromString(expected)) //
+                .withTest(Input.fromString(actual)) //
+                .ignoreWhitespace() //
+                .build();
+        assertThat(diff.hasDifferences()).as(diff.toString()).isFalse();
+    }
+
+    @Test
+    void invalid_input_report_does_not_produce_a_converted_report() throws Exception {
+        File inputFile = new File(folder, "input.xml");
+        FileUtils.write(inputFile, "<?xml version=\"1.0\"?><foo/>", StandardCharsets.UTF_8);
+
+        PipelinedConversion.Result result = newService().convertPipelined(newToolInfo(new NUnit()), inputFile, new File(folder, "junit"));
+
+        assertThat(result).isNotNull();
+        assertThat(result.isValidInput()).isFalse();
+        assertThat(result.getTargetFile()).isNull();
+        assertThat(new File(folder, "junit/NUnit").list()).isEmpty();
+    }
+
+    @Test
+    void malformed_input_report_is_an_invalid_report() throws Exception {
+        File inputFile = new File(folder, "input.xml");
+        FileUtils.write(inputFile, "<?xml version=\"1.0\"?><test-results", StandardCharsets.UTF_8);
+
+        PipelinedConversion.Result result = newService().convertPipelined(newToolInfo(new NUnit()), inputFile, new File(folder, "junit"));
+
+        assertThat(result).isNotNull();
+        assertThat(result.isValidInput()).isFalse();
+    }
+
+    @Test
+    void metric_without_stylesheet_is_not_pipelined() throws Exception {
+        File inputFile = resource("junit", 1, "input.xml");
+
+        assertThat(newService().convertPipelined(newToolInfo(new JUnitInputMetric()), inputFile, folder)).isNull();
+    }
+
+    private XUnitConversionService newService() {
+        return new XUnitConversionService(mock(XUnitLog.class));
+    }
+
+    private XUnitToolInfo newToolInfo(InputMetric metric) {
+        XUnitToolInfo toolInfo = new XUnitToolInfo(metric, "*.xml", false, false, true, true, 0, 3000, 0, null);
+        toolInfo.setPipelined(true);
+        return toolInfo;
+    }
+
+    private File resource(String packageName, int testNumber, String name) throws Exception {
+        return new File(getClass().getResource("/org/jenkinsci/plugins/xunit/types/" + packageName + "/testcase" + testNumber + "/" + name).toURI());
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.apache.tools.ant.types.FileSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import hudson.Util;
+
+class ReportScannerTest {
+
+    @TempDir
+    private File ws;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        touch("report.xml");
+        touch("a/report.xml");
+        touch("a/b/TEST-one.xml");
+        touch("a/b/TEST-two.txt");
+        touch("build/test-results/TEST-three.xml");
+        touch("build/test-results/nested/TEST-four.xml");
+        touch("build/tmp/TEST-five.xml");
+        touch("node_modules/pkg/TEST-six.xml");
+        touch(".git/TEST-seven.xml");
+        touch("a/.svn/TEST-eight.xml");
+    }
+
+    @ParameterizedTest(name = "includes: {0} excludes: {1}")
+    @CsvSource({ "'**/*.xml',", //
+        "'*.xml',", //
+        "'a/**/*.xml',", //
+        "'build/test-results/**/TEST-*.xml',", //
+        "'build/test-results/',", //
+        "'**/TEST-*.xml', 'node_modules/**'", //
+        "'**/TEST-*.xml, report.xml', '**/tmp/**, a/b/*.txt'", //
+        "'**/*', '**/nested/**'", //
+        "'a\\b\\*.xml',", //
+        "'missing/**/*.xml',", //
+    })
+    void same_files_of_directory_scanner(String includes, String excludes) {
+        assertThat(new ReportScanner(includes, excludes, true).scan(ws)).containsExactly(antScan(includes, excludes, true));
+    }
+
+    @Test
+    void symbolic_links_are_not_followed_if_disabled() throws Exception {
+        Path link = ws.toPath().resolve("link");
+        Files.createSymbolicLink(link, ws.toPath().resolve("a"));
+        Files.createSymbolicLink(ws.toPath().resolve("loop"), ws.toPath());
+
+        assertThat(new ReportScanner("**/*.xml", null, false).scan(ws)).containsExactly(antScan("**/*.xml", null, false));
+        assertThat(new ReportScanner("**/*.xml", null, true).scan(ws)) //
+            .contains("link" + File.separator + "report.xml") //
+            .doesNotContain("loop" + File.separator + "loop" + File.separator + "report.xml");
+    }
+
+    @Test
+    void each_selector_gets_its_files_with_a_single_walk() {
+        ReportScanner scanner = new ReportScanner(Arrays.asList(new ReportScanner.Selector("**/TEST-*.xml", "build/**"), //
+                new ReportScanner.Selector("build/test-results/", "**/nested/**"), //
+                new ReportScanner.Selector("", null)), true);
+
+        ReportFile[][] files = scanner.scanAll(ws);
+        assertThat(files).hasSize(3);
+        assertThat(ReportFile.toPaths(files[0])).containsExactly(antScan("**/TEST-*.xml", "build/**", true));
+        assertThat(ReportFile.toPaths(files[1])).containsExactly(antScan("build/test-results/", "**/nested/**", true));
+        assertThat(files[2]).isEmpty();
+    }
+
+    @Test
+    void attributes_are_read_during_the_scan() throws Exception {
+        File report = new File(ws, "a/report.xml");
+        Files.write(report.toPath(), "<testsuite/>".getBytes(StandardCharsets.UTF_8));
+        assertThat(report.setLastModified(1000000L)).isTrue();
+
+        ReportFile[] files = new ReportScanner("a/*.xml", null, true).scanAll(ws)[0];
+        assertThat(files).hasSize(1);
+        assertThat(files[0].getPath()).isEqualTo("a" + File.separator + "report.xml");
+        assertThat(files[0].getSize()).isEqualTo(12);
+        assertThat(files[0].getLastModified()).isEqualTo(1000000L);
+    }
+
+    @Test
+    void missing_folder() {
+        assertThat(new ReportScanner("**/*.xml", null, true).scan(new File(ws, "missing"))).isEmpty();
+    }
+
+    @Test
+    void same_files_walking_with_more_threads() {
+        ReportScanner scanner = new ReportScanner("**/*.xml", "node_modules/**", true);
+        scanner.setParallelism(4);
+
+        assertThat(scanner.scan(ws)).containsExactly(antScan("**/*.xml", "node_modules/**", true));
+    }
+
+    private String[] antScan(String includes, String excludes, boolean followSymlinks) {
+        FileSet fs = Util.createFileSet(ws, includes, excludes);
+        fs.setFollowSymlinks(followSymlinks);
+        return fs.getDirectoryScanner().getIncludedFiles();
+    }
+
+    private void touch(String path) throws IOException {
+        Path file = ws.toPath().resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.createFile(file);
+    }
+
+}
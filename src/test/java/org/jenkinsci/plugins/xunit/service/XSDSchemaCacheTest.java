@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import org.apache.commons.io.FileUtils;
+import org.jenkinsci.lib.dtkit.model.InputMetric;
+import org.jenkinsci.plugins.xunit.types.BoostTest;
+import org.jenkinsci.plugins.xunit.types.JUnitInputMetric;
+import org.jenkinsci.plugins.xunit.types.NUnit;
+import org.jenkinsci.plugins.xunit.types.PHPUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import javax.xml.validation.Schema;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class XSDSchemaCacheTest {
+
+    @TempDir
+    private File folder;
+
+    @Test
+    void same_schema_is_compiled_once() throws Exception {
+        XSDSchemaCache cache = XSDSchemaCache.get();
+
+        Schema schema = cache.forInput(new NUnit());
+        assertThat(schema).isNotNull();
+        assertThat(cache.forInput(new NUnit())).isSameAs(schema);
+        assertThat(cache.forOutput(new NUnit())).isSameAs(cache.forOutput(new BoostTest()));
+        assertThat(cache.forInput(new JUnitInputMetric())).isSameAs(cache.forOutput(new PHPUnit()));
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "nunit, 1", "nunit, 2", "boosttest, 1", "phpunit, 1", "junit, 1" })
+    void cached_schema_validates_as_the_metric(String packageName, int testNumber) throws Exception {
+        InputMetric metric = switch (packageName) {
+        case "nunit" -> new NUnit();
+        case "boosttest" -> new BoostTest();
+        case "phpunit" -> new PHPUnit();
+        default -> new JUnitInputMetric();
+        };
+        File inputFile = new File(getClass().getResource("/org/jenkinsci/plugins/xunit/types/" + packageName + "/testcase" + testNumber + "/input.xml").toURI());
+
+        XSDSchemaCache cache = XSDSchemaCache.get();
+        assertThat(cache.validate(cache.forInput(metric), inputFile).isEmpty()).isEqualTo(metric.validateInputFile(inputFile));
+    }
+
+    @Test
+    void invalid_report_returns_validation_errors() throws Exception {
+        File inputFile = new File(folder, "input.xml");
+        FileUtils.write(inputFile, "<?xml version=\"1.0\"?><foo/>", StandardCharsets.UTF_8);
+
+        XSDSchemaCache cache = XSDSchemaCache.get();
+        assertThat(cache.validate(cache.forInput(new NUnit()), inputFile)).isNotEmpty();
+    }
+
+    @Test
+    void malformed_report_returns_validation_errors() throws Exception {
+        File inputFile = new File(folder, "input.xml");
+        FileUtils.write(inputFile, "<?xml version=\"1.0\"?><testsuite", StandardCharsets.UTF_8);
+
+        XSDSchemaCache cache = XSDSchemaCache.get();
+        assertThat(cache.validate(cache.forInput(new JUnitInputMetric()), inputFile)).hasSize(1);
+    }
+
+}
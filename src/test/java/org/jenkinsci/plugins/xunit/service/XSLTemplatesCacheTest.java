@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import org.apache.commons.io.FileUtils;
+import org.jenkinsci.plugins.xunit.service.XSLTemplatesCache.Stylesheet;
+import org.jenkinsci.plugins.xunit.types.GoogleTestInputMetric;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xmlunit.builder.DiffBuilder;
+import org.xmlunit.builder.Input;
+import org.xmlunit.diff.Diff;
+
+import javax.xml.transform.Templates;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class XSLTemplatesCacheTest {
+
+    private static final String IDENTITY_XSL = "<xsl:stylesheet version=\"2.0\" xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\">"
+            + "<xsl:template match=\"@*|node()\"><xsl:copy><xsl:apply-templates select=\"@*|node()\"/></xsl:copy></xsl:template>"
+            + "</xsl:stylesheet>";
+
+    @TempDir
+    private File folder;
+
+    @Test
+    void same_stylesheet_is_compiled_once() throws Exception {
+        XSLTemplatesCache cache = new XSLTemplatesCache(10);
+
+        Templates templates = cache.getTemplates(cache.forMetric(new GoogleTestInputMetric()));
+        assertThat(cache.getTemplates(cache.forMetric(new GoogleTestInputMetric()))).isSameAs(templates);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void stylesheet_key_depends_on_content_and_tool() {
+        XSLTemplatesCache cache = new XSLTemplatesCache(10);
+
+        Stylesheet xsl1 = cache.forContent("tool", IDENTITY_XSL);
+        Stylesheet xsl2 = cache.forContent("tool", IDENTITY_XSL.replace("2.0", "1.0"));
+        Stylesheet xsl3 = cache.forContent("other", IDENTITY_XSL);
+
+        assertThat(xsl1.getKey()).isEqualTo(cache.forContent("tool", IDENTITY_XSL).getKey());
+        assertThat(xsl1.getKey()).isNotEqualTo(xsl2.getKey());
+        assertThat(xsl1.getKey()).isNotEqualTo(xsl3.getKey());
+    }
+
+    @Test
+    void least_recently_used_stylesheet_is_evicted() {
+        XSLTemplatesCache cache = new XSLTemplatesCache(2);
+
+        Templates tool1 = cache.getTemplates(cache.forContent("tool1", IDENTITY_XSL));
+        cache.getTemplates(cache.forContent("tool2", IDENTITY_XSL));
+        // access tool1 so that tool2 becomes the eldest entry
+        assertThat(cache.getTemplates(cache.forContent("tool1", IDENTITY_XSL))).isSameAs(tool1);
+        cache.getTemplates(cache.forContent("tool3", IDENTITY_XSL));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getTemplates(cache.forContent("tool1", IDENTITY_XSL))).isSameAs(tool1);
+    }
+
+    @Test
+    void cached_conversion_produces_the_expected_report() throws Exception {
+        File inputFile = new File(getClass().getResource("/org/jenkinsci/plugins/xunit/types/googletest/testcase1/input.xml").toURI());
+        File expectedFile = new File(getClass().getResource("/org/jenkinsci/plugins/xunit/types/googletest/testcase1/result.xml").toURI());
+
+        XUnitToolInfo toolInfo = mock(XUnitToolInfo.class);
+        when(toolInfo.getInputMetric()).thenReturn(new GoogleTestInputMetric());
+
+        XUnitConversionService service = new XUnitConversionService(mock(XUnitLog.class));
+        File reportFile = service.convert(toolInfo, inputFile, folder);
+        File reportFile2 = service.convert(toolInfo, inputFile, folder);
+
+        for (File report : new File[] { reportFile, reportFile2 }) {
+            Diff diff = DiffBuilder.compare(Input.fromString(FileUtils.readFileToString(expectedFile, StandardCharsets.UTF_8))) //
+                    .withTest(Input.fromString(FileUtils.readFileToString(report, StandardCharsets.UTF_8))) //
+                    .ignoreWhitespace() //
+                    .ignoreComments() //
+                    .normalizeWhitespace() //
+                    .build();
+            assertThat(diff.hasDifferences()).as(diff.toString()).isFalse();
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import hudson.remoting.VirtualChannel;
+import hudson.tasks.junit.TestResult;
+import hudson.util.StreamTaskListener;
+import org.apache.commons.io.FileUtils;
+import org.jenkinsci.plugins.xunit.types.JUnitInputMetric;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class XUnitAggregatedCallableTest {
+
+    private static final String REPORT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<testsuite errors=\"0\" failures=\"0\" name=\"suite{0}\" tests=\"1\" time=\"1.0\">\n"
+            + "    <testcase classname=\"suite{0}\" name=\"test\" time=\"1.0\" />\n"
+            + "</testsuite>";
+
+    @TempDir
+    private File ws;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final XUnitLog log = new XUnitLog(new StreamTaskListener(out, StandardCharsets.UTF_8));
+
+    @Test
+    void all_tools_are_processed_with_a_single_call() throws Exception {
+        createReports("reports1", 3);
+        createReports("reports2", 2);
+
+        XUnitAggregatedCallable callable = new XUnitAggregatedCallable(
+                Arrays.asList(newTransformer("reports1/*.xml", false), null, newTransformer("reports2/*.xml", false)),
+                Arrays.asList("Tool1", "Tool2", "Tool3"), log, "1234", 0, System.currentTimeMillis(), true, null);
+        callable.setDeletion(Collections.singletonList("JUnit"), false);
+
+        XUnitAggregatedCallable.Result result = callable.invoke(ws, mock(VirtualChannel.class));
+
+        assertThat(result.getProcessedReports(0)).isEqualTo(3);
+        assertThat(result.getProcessedReports(1)).isZero();
+        assertThat(result.getProcessedReports(2)).isEqualTo(2);
+        assertThat(result.getTotalProcessedReports()).isEqualTo(5);
+        TestResult testResult = result.getTestResult();
+        assertThat(testResult).isNotNull();
+        testResult.tally();
+        assertThat(testResult.getTotalCount()).isEqualTo(5);
+        assertThat(new File(ws, "generatedJUnitFiles/1234")).doesNotExist();
+        assertThat(out.toString(StandardCharsets.UTF_8)).containsSubsequence("Processing Tool1", "Processing Tool2", "Processing Tool3");
+    }
+
+    @Test
+    void generated_reports_are_kept_when_required() throws Exception {
+        createReports("reports", 2);
+
+        XUnitAggregatedCallable callable = new XUnitAggregatedCallable(Collections.singletonList(newTransformer("reports/*.xml", false)),
+                Collections.singletonList("Tool"), log, "1234", 0, System.currentTimeMillis(), true, null);
+        callable.setDeletion(Collections.emptyList(), true);
+        callable.invoke(ws, mock(VirtualChannel.class));
+
+        assertThat(FileUtils.listFiles(new File(ws, "generatedJUnitFiles/1234"), null, true)).hasSize(2);
+    }
+
+    @Test
+    void tools_without_reports_are_skipped_when_allowed() throws Exception {
+        createReports("reports", 1);
+
+        XUnitAggregatedCallable callable = new XUnitAggregatedCallable(
+                Arrays.asList(newTransformer("missing/*.xml", true), newTransformer("reports/*.xml", false)),
+                Arrays.asList("Tool1", "Tool2"), log, "1234", 0, System.currentTimeMillis(), true, null);
+
+        assertThat(callable.invoke(ws, mock(VirtualChannel.class)).getTotalProcessedReports()).isEqualTo(1);
+
+        XUnitAggregatedCallable failing = new XUnitAggregatedCallable(Collections.singletonList(newTransformer("missing/*.xml", false)),
+                Collections.singletonList("Tool"), log, "1234", 0, System.currentTimeMillis(), true, null);
+        assertThrows(NoTestFoundException.class, () -> failing.invoke(ws, mock(VirtualChannel.class)));
+    }
+
+    @Test
+    void reports_of_all_tools_are_found_with_a_single_walk() throws Exception {
+        createReports("reports1", 3);
+        createReports("reports2", 2);
+
+        XUnitAggregatedCallable callable = new XUnitAggregatedCallable(
+                Arrays.asList(newTransformer("reports1/*.xml", false), null, newTransformer("**/*.xml", false), newTransformer("missing/*.xml", true)),
+                Arrays.asList("Tool1", "Tool2", "Tool3", "Tool4"), log, "1234", 0, System.currentTimeMillis(), true, null);
+        callable.setSharedScan(true);
+
+        XUnitAggregatedCallable.Result result = callable.invoke(ws, mock(VirtualChannel.class));
+
+        assertThat(result.getProcessedReports(0)).isEqualTo(3);
+        assertThat(result.getProcessedReports(1)).isZero();
+        assertThat(result.getProcessedReports(2)).isEqualTo(5);
+        assertThat(result.getProcessedReports(3)).isZero();
+    }
+
+    private void createReports(String folder, int count) throws Exception {
+        for (int i = 0; i < count; i++) {
+            FileUtils.write(new File(ws, folder + "/report" + i + ".xml"), REPORT.replace("{0}", folder + i), StandardCharsets.UTF_8);
+        }
+    }
+
+    private XUnitTransformerCallable newTransformer(String pattern, boolean skipNoTestFiles) {
+        XUnitToolInfo toolInfo = new XUnitToolInfo(new JUnitInputMetric(), pattern, skipNoTestFiles, false, true, false, 0, 3000, 0, null);
+        return new XUnitTransformerCallable(new XUnitReportProcessorService(log), new XUnitConversionService(log),
+                new XUnitValidationService(log), toolInfo, log);
+    }
+
+}
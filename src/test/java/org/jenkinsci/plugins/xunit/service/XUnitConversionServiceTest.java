@@ -30,8 +30,11 @@ import org.jvnet.hudson.test.Issue;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -55,6 +58,26 @@ class XUnitConversionServiceTest {
         assertNotEquals(reportFile.getAbsolutePath(), reportFile2.getAbsolutePath());
     }
 
+    @Test
+    void junit_report_is_linked_in_passthrough_mode() throws Exception {
+        File destFolder = newFolder(folder, "junit");
+        File inputFile = new File(folder, "TEST-report.xml");
+        Files.writeString(inputFile.toPath(), "<testsuite name=\"suite\" tests=\"0\"/>");
+
+        XUnitToolInfo toolInfo = mock(XUnitToolInfo.class);
+        when(toolInfo.getInputMetric()).thenReturn(new JUnitInputMetric());
+        when(toolInfo.isPassthrough()).thenReturn(true);
+
+        XUnitConversionService service = new XUnitConversionService(mock(XUnitLog.class));
+        File reportFile = service.convert(toolInfo, inputFile, destFolder);
+
+        assertEquals(Files.readString(inputFile.toPath()), Files.readString(reportFile.toPath()));
+
+        // removing the output report must not remove the original one
+        Files.delete(reportFile.toPath());
+        assertTrue(inputFile.exists());
+    }
+
     private static File newFolder(File root, String... subDirs) throws IOException {
         String subFolder = String.join("/", subDirs);
         File result = new File(root, subFolder);
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import hudson.remoting.VirtualChannel;
+import hudson.tasks.junit.TestResult;
+import hudson.util.StreamTaskListener;
+import org.apache.commons.io.FileUtils;
+import org.jenkinsci.plugins.xunit.types.JUnitInputMetric;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class XUnitDirectResultCallableTest {
+
+    private static final String REPORT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<testsuite errors=\"0\" failures=\"1\" name=\"suite{0}\" tests=\"2\" time=\"1.0\">\n"
+            + "    <testcase classname=\"suite{0}\" name=\"test1\" time=\"0.5\" />\n"
+            + "    <testcase classname=\"suite{0}\" name=\"test2\" time=\"0.5\"><failure message=\"boom\">stack</failure></testcase>\n"
+            + "</testsuite>";
+
+    @TempDir
+    private File ws;
+
+    @Test
+    void converted_reports_are_parsed_without_write_the_workspace() throws Exception {
+        File reportDir = new File(ws, "reports");
+        for (int i = 0; i < 5; i++) {
+            FileUtils.write(new File(reportDir, "report" + i + ".xml"), REPORT.replace("{0}", String.valueOf(i)), StandardCharsets.UTF_8);
+        }
+
+        XUnitDirectResultCallable.Result directResult = new XUnitDirectResultCallable(newTransformer(), 0, System.currentTimeMillis(), true, null).invoke(ws, mock(VirtualChannel.class));
+
+        assertThat(directResult.getProcessedReports()).isEqualTo(5);
+        TestResult result = directResult.getTestResult();
+        assertThat(result).isNotNull();
+        result.tally();
+        assertThat(result.getTotalCount()).isEqualTo(10);
+        assertThat(result.getFailCount()).isEqualTo(5);
+        assertThat(new File(ws, "generatedJUnitFiles")).doesNotExist();
+    }
+
+    @Test
+    void no_reports_returns_no_result() throws Exception {
+        FileUtils.write(new File(ws, "reports/report.xml"), "", StandardCharsets.UTF_8);
+
+        XUnitDirectResultCallable.Result directResult = new XUnitDirectResultCallable(newTransformer(), 0, System.currentTimeMillis(), true, null).invoke(ws, mock(VirtualChannel.class));
+
+        assertThat(directResult.getTestResult()).isNull();
+        assertThat(directResult.getProcessedReports()).isZero();
+    }
+
+    private XUnitTransformerCallable newTransformer() {
+        XUnitLog log = new XUnitLog(new StreamTaskListener(new ByteArrayOutputStream(), StandardCharsets.UTF_8));
+        XUnitToolInfo toolInfo = new XUnitToolInfo(new JUnitInputMetric(), "reports/*.xml", false, false, true, false, 0, 3000, 0, null);
+        return new XUnitTransformerCallable(new XUnitReportProcessorService(log), new XUnitConversionService(log),
+                new XUnitValidationService(log), toolInfo, log);
+    }
+
+}
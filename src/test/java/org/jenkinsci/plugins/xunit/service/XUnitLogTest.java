@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import hudson.util.StreamTaskListener;
+
+class XUnitLogTest {
+
+    private ByteArrayOutputStream console;
+    private XUnitLog log;
+
+    @BeforeEach
+    void setUp() {
+        console = new ByteArrayOutputStream();
+        log = new XUnitLog(new StreamTaskListener(new PrintStream(console, true, StandardCharsets.UTF_8), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void messages_are_printed_immediately_when_not_buffered() {
+        log.info("first");
+        assertThat(console()).isEqualTo(lines("INFO: first"));
+    }
+
+    @Test
+    void buffered_messages_keep_their_order() {
+        log.startBuffering();
+        log.info("first");
+        log.warn("second");
+        log.error("third");
+        assertThat(console()).isEmpty();
+
+        log.stopBuffering();
+        assertThat(console()).isEqualTo(lines("INFO: first", "WARNING: second", "ERROR: third"));
+
+        log.info("fourth");
+        assertThat(console()).endsWith(lines("INFO: fourth"));
+    }
+
+    @Test
+    void buffer_is_flushed_when_full() {
+        log.startBuffering();
+        String message = "x".repeat(XUnitLog.BUFFER_SIZE);
+        log.info(message);
+        assertThat(console()).isEqualTo(lines("INFO: " + message));
+        log.stopBuffering();
+    }
+
+    @Test
+    void buffer_is_flushed_after_the_interval_without_new_messages() throws Exception {
+        log.startBuffering();
+        log.info("first");
+        assertThat(console()).isEmpty();
+
+        long deadline = System.currentTimeMillis() + XUnitLog.FLUSH_INTERVAL + 5000;
+        while (console().isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(console()).isEqualTo(lines("INFO: first"));
+        log.stopBuffering();
+    }
+
+    @Test
+    void repeated_warnings_are_summarised() {
+        log.startBuffering();
+        for (int i = 0; i < 5; i++) {
+            log.warn("same");
+            log.info("info " + i);
+        }
+        log.stopBuffering();
+
+        assertThat(console()).isEqualTo(lines("WARNING: same", "INFO: info 0", "INFO: info 1", "INFO: info 2", "INFO: info 3",
+                "INFO: info 4", "WARNING: " + Messages.XUnitLog_repeatedWarning("same", 4)));
+    }
+
+    private String console() {
+        return console.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : lines) {
+            sb.append(line).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+}
@@ -164,6 +164,23 @@ class XUnitReportProcessorTest {
                         xUnitToolInfoMock));
     }
 
+    @Test
+    void stale_reports_are_found_using_scanned_attributes() throws Exception {
+        XUnitToolInfo xUnitToolInfoMock = mock(XUnitToolInfo.class);
+        when(xUnitToolInfoMock.isFailIfNotNew()).thenReturn(true);
+        when(xUnitToolInfoMock.getBuildTime()).thenReturn(System.currentTimeMillis());
+        when(xUnitToolInfoMock.getTestTimeMargin()).thenReturn(3000L);
+
+        // files are not touched, only scanned attributes are used
+        ReportFile fresh = new ReportFile("fresh.xml", 10, System.currentTimeMillis());
+        xUnitReportProcessorService.checkIfFindsFilesNewFiles(xUnitToolInfoMock, new ReportFile[] { fresh }, folderRule);
+
+        ReportFile stale = new ReportFile("stale.xml", 10, 0);
+        NoNewTestReportException e = assertThrows(NoNewTestReportException.class, () ->
+                xUnitReportProcessorService.checkIfFindsFilesNewFiles(xUnitToolInfoMock, new ReportFile[] { fresh, stale }, folderRule));
+        Assertions.assertThat(e.getMessage()).contains(new File(folderRule, "stale.xml").getPath()).doesNotContain("fresh.xml");
+    }
+
     private static File newFile(File parent, String child) throws IOException {
         File result = new File(parent, child);
         if (!result.createNewFile()) {
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.service;
+
+import hudson.model.TaskListener;
+import hudson.remoting.VirtualChannel;
+import hudson.util.StreamTaskListener;
+import org.apache.commons.io.FileUtils;
+import org.jenkinsci.plugins.xunit.types.JUnitInputMetric;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class XUnitTransformerParallelTest {
+
+    private static final String REPORT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<testsuite errors=\"0\" failures=\"0\" name=\"suite{0}\" tests=\"1\" time=\"1.0\">\n"
+            + "    <testcase classname=\"suite{0}\" name=\"test{0}\" time=\"1.0\" />\n"
+            + "</testsuite>";
+
+    @TempDir
+    private File ws;
+
+    @Test
+    void parallel_conversion_produces_the_same_output_of_sequential_conversion() throws Exception {
+        createReports(40);
+
+        ByteArrayOutputStream sequentialLog = new ByteArrayOutputStream();
+        int sequentialCount = newTransformer(sequentialLog, 1, false).invoke(ws, mock(VirtualChannel.class));
+
+        ByteArrayOutputStream parallelLog = new ByteArrayOutputStream();
+        int parallelCount = newTransformer(parallelLog, 8, false).invoke(ws, mock(VirtualChannel.class));
+
+        assertThat(parallelCount).isEqualTo(sequentialCount).isEqualTo(36);
+        assertThat(parallelLog.toString(StandardCharsets.UTF_8)).isEqualTo(sequentialLog.toString(StandardCharsets.UTF_8));
+        assertThat(FileUtils.listFiles(new File(ws, "generatedJUnitFiles"), null, true)).hasSize(36 * 2);
+    }
+
+    @Test
+    void parallel_conversion_stops_at_first_error() throws Exception {
+        createReports(40);
+
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        XUnitTransformerCallable transformer = newTransformer(log, 8, true);
+        EmptyReportFileException e = assertThrows(EmptyReportFileException.class, () -> transformer.invoke(ws, mock(VirtualChannel.class)));
+        assertThat(e.getMessage()).contains("report05.xml");
+    }
+
+    @Test
+    void many_reports_are_converted_through_a_bounded_window() throws Exception {
+        createReports(100);
+
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        assertThat(newTransformer(log, 2, false).invoke(ws, mock(VirtualChannel.class))).isEqualTo(90);
+    }
+
+    @Test
+    void worker_copy_keeps_the_settings_with_a_new_metric() {
+        XUnitToolInfo toolInfo = new XUnitToolInfo(new JUnitInputMetric(), "reports/*.xml", true, false, true, false, false, 1, 3000, 10, "<xsl/>");
+        toolInfo.setExcludesPattern("**/tmp/**");
+        toolInfo.setParallelism(4);
+        toolInfo.setPipelined(true);
+        toolInfo.setConversionCacheSize(1024);
+        toolInfo.setMaxLoad(0.8);
+
+        JUnitInputMetric metric = new JUnitInputMetric();
+        XUnitToolInfo copy = toolInfo.withInputMetric(metric);
+
+        assertThat(copy.getInputMetric()).isSameAs(metric);
+        assertThat(copy).usingRecursiveComparison().ignoringFields("inputMetric").isEqualTo(toolInfo);
+    }
+
+    private void createReports(int count) throws Exception {
+        File reportDir = new File(ws, "reports");
+        for (int i = 0; i < count; i++) {
+            File report = new File(reportDir, String.format("report%02d.xml", i));
+            // every tenth report is empty
+            String content = i % 10 == 5 ? "" : REPORT.replace("{0}", String.valueOf(i));
+            FileUtils.write(report, content, StandardCharsets.UTF_8);
+        }
+    }
+
+    private XUnitTransformerCallable newTransformer(ByteArrayOutputStream out, int parallelism, boolean stopProcessingIfError) {
+        TaskListener listener = new StreamTaskListener(out, StandardCharsets.UTF_8);
+        XUnitLog log = new XUnitLog(listener);
+        XUnitToolInfo toolInfo = new XUnitToolInfo(new JUnitInputMetric(), "reports/*.xml", false, false, true, stopProcessingIfError, 0, 3000, 0, null);
+        toolInfo.setParallelism(parallelism);
+
+        return new XUnitTransformerCallable(new XUnitReportProcessorService(log), new XUnitConversionService(log),
+                new XUnitValidationService(log), toolInfo, log);
+    }
+
+}
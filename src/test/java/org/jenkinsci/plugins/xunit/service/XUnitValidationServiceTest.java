@@ -23,6 +23,7 @@
  */
 package org.jenkinsci.plugins.xunit.service;
 
+import org.jenkinsci.plugins.xunit.types.NUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -30,10 +31,16 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * Unit tests for XUnitValidationService class.
@@ -53,9 +60,12 @@ class XUnitValidationServiceTest {
      */
     private XUnitValidationService xUnitValidationService;
 
+    private XUnitLog xUnitLog;
+
     @BeforeEach
     void setUp() {
-        xUnitValidationService = new XUnitValidationService(mock(XUnitLog.class));
+        xUnitLog = mock(XUnitLog.class);
+        xUnitValidationService = new XUnitValidationService(xUnitLog);
     }
 
     @Test
@@ -76,6 +86,47 @@ class XUnitValidationServiceTest {
                 "CheckFileIsNotEmpty returned false.");
     }
 
+    @Test
+    void ValidateOutputFile_GivenInvalidFile_LogsEachErrorAsWarning() throws Exception {
+        File inputFile = createNotEmtyFile();
+        File outputFile = createInvalidOutputFile();
+        XUnitToolInfo xUnitToolInfo = new XUnitToolInfo(new NUnit(), "*.xml", false, false, false, true, 0, 0, 0, null);
+
+        NUnit metric = new NUnit();
+        assertFalse(metric.validateOutputFile(outputFile));
+        int errors = metric.getOutputValidationErrors().size();
+        assertTrue(errors > 0);
+
+        assertFalse(xUnitValidationService.validateOutputFile(xUnitToolInfo, inputFile, outputFile),
+                "ValidateOutputFile returned true.");
+        // the invalid report message followed by each validation error
+        verify(xUnitLog, times(1 + errors)).warn(anyString());
+        verify(xUnitLog, never()).error(anyString());
+    }
+
+    @Test
+    void ValidateOutputFile_GivenInvalidFileAndSchemaCache_LogsEachErrorAsWarning() throws Exception {
+        File inputFile = createNotEmtyFile();
+        File outputFile = createInvalidOutputFile();
+        XUnitToolInfo xUnitToolInfo = new XUnitToolInfo(new NUnit(), "*.xml", false, false, false, true, 0, 0, 0, null);
+        xUnitToolInfo.setSchemaCache(true);
+
+        XSDSchemaCache cache = XSDSchemaCache.get();
+        int errors = cache.validate(cache.forOutput(new NUnit()), outputFile).size();
+        assertTrue(errors > 0);
+
+        assertFalse(xUnitValidationService.validateOutputFile(xUnitToolInfo, inputFile, outputFile),
+                "ValidateOutputFile returned true.");
+        verify(xUnitLog, times(1 + errors)).warn(anyString());
+        verify(xUnitLog, never()).error(anyString());
+    }
+
+    private File createInvalidOutputFile() throws IOException {
+        File outputFile = new File(folderRule, "junit-output.xml");
+        Files.writeString(outputFile.toPath(), "<?xml version=\"1.0\"?><testsuite><foo/></testsuite>", StandardCharsets.UTF_8);
+        return outputFile;
+    }
+
     /**
      * Helper method that will create a file with some text in it.
      *
@@ -0,0 +1,77 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.threshold;
+
+import hudson.model.Result;
+import hudson.model.Run;
+import hudson.tasks.junit.TestResultSummary;
+import org.jenkinsci.plugins.xunit.service.XUnitLog;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+class FailedThresholdTest {
+
+    @Test
+    void fixed_tests_hide_new_failures_without_delta() {
+        XUnitThreshold failedThreshold = newThreshold();
+
+        Result result = failedThreshold.getResultThresholdNumber(mock(XUnitLog.class), mock(Run.class),
+                new TestResultSummary(10, 0, 90, 100), new TestResultSummary(10, 0, 90, 100), null);
+
+        assertEquals(Result.SUCCESS, result);
+    }
+
+    @Test
+    void new_failures_are_counted_exactly_with_delta() {
+        XUnitThreshold failedThreshold = newThreshold();
+
+        Result result = failedThreshold.getResultThresholdNumber(mock(XUnitLog.class), mock(Run.class),
+                new TestResultSummary(10, 0, 90, 100), new TestResultSummary(10, 0, 90, 100), new FailureDelta(10, 10));
+
+        assertEquals(Result.FAILURE, result);
+    }
+
+    @Test
+    void new_failures_percent_with_delta() {
+        XUnitThreshold failedThreshold = newThreshold();
+        failedThreshold.setFailureNewThreshold("5");
+
+        Result result = failedThreshold.getResultThresholdPercent(mock(XUnitLog.class), mock(Run.class),
+                new TestResultSummary(10, 0, 90, 100), new TestResultSummary(10, 0, 90, 100), new FailureDelta(6, 6));
+
+        assertEquals(Result.FAILURE, result);
+    }
+
+    private XUnitThreshold newThreshold() {
+        XUnitThreshold failedThreshold = spy(new FailedThreshold());
+        failedThreshold.setFailureNewThreshold("0");
+        doReturn(new FailedThresholdDescriptor()).when(failedThreshold).getDescriptor();
+        return failedThreshold;
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2026, Nikolas Falco
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.jenkinsci.plugins.xunit.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+class DownloadableResourceCacheTest {
+
+    @TempDir
+    private File cacheDir;
+
+    private HttpServer server;
+    private String url;
+    private final List<String> responses = new CopyOnWriteArrayList<>();
+    private volatile String body = "<xsl/>";
+    private volatile String etag = "\"v1\"";
+    private volatile String lastModified;
+    private volatile int errorCode;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/custom.xsl", this::handle);
+        server.start();
+        url = "http://" + server.getAddress().getAddress().getHostAddress() + ":" + server.getAddress().getPort() + "/custom.xsl";
+    }
+
+    @AfterEach
+    void tearDown() {
+        stopServer();
+    }
+
+    @Test
+    void unchanged_resource_is_revalidated() throws Exception {
+        DownloadableResourceCache cache = new DownloadableResourceCache(cacheDir, 0);
+
+        assertThat(cache.get(url)).isEqualTo("<xsl/>");
+        assertThat(cache.get(url)).isEqualTo("<xsl/>");
+        assertThat(responses).containsExactly("200 ", "304 \"v1\"");
+    }
+
+    @Test
+    void changed_resource_is_downloaded_again() throws Exception {
+        DownloadableResourceCache cache = new DownloadableResourceCache(cacheDir, 0);
+        assertThat(cache.get(url)).isEqualTo("<xsl/>");
+
+        body = "<xsl version=\"2\"/>";
+        etag = "\"v2\"";
+        assertThat(cache.get(url)).isEqualTo("<xsl version=\"2\"/>");
+        assertThat(cache.get(url)).isEqualTo("<xsl version=\"2\"/>");
+        assertThat(responses).containsExactly("200 ", "200 \"v1\"", "304 \"v2\"");
+    }
+
+    @Test
+    void last_modified_is_used_without_etag() throws Exception {
+        etag = null;
+        lastModified = "Wed, 21 Oct 2026 07:28:00 GMT";
+        DownloadableResourceCache cache = new DownloadableResourceCache(cacheDir, 0);
+
+        assertThat(cache.get(url)).isEqualTo("<xsl/>");
+        assertThat(cache.get(url)).isEqualTo("<xsl/>");
+        assertThat(responses).containsExactly("200 ", "304 Wed, 21 Oct 2026 07:28:00 GMT");
+    }
+
+    @Test
+    void cache_is_shared_between_instances() throws Exception {
+        assertThat(new DownloadableResourceCache(cacheDir, 0).get(url)).isEqualTo("<xsl/>");
+        assertThat(new DownloadableResourceCache(cacheDir, 0).get(url)).isEqualTo("<xsl/>");
+        assertThat(responses).containsExactly("200 ", "304 \"v1\"");
+    }
+
+    @Test
+    void cached_copy_is_served_when_server_is_unreachable() throws Exception {
+        assertThat(new DownloadableResourceCache(cacheDir, 60000).get(url)).isEqualTo("<xsl/>");
+
+        stopServer();
+        assertThat(new DownloadableResourceCache(cacheDir, 60000).get(url)).isEqualTo("<xsl/>");
+    }
+
+    @Test
+    void cached_copy_is_served_on_server_error() throws Exception {
+        assertThat(new DownloadableResourceCache(cacheDir, 60000).get(url)).isEqualTo("<xsl/>");
+
+        errorCode = 503;
+        assertThat(new DownloadableResourceCache(cacheDir, 60000).get(url)).isEqualTo("<xsl/>");
+    }
+
+    @Test
+    void stale_copy_is_not_served() throws Exception {
+        assertThat(new DownloadableResourceCache(cacheDir, 0).get(url)).isEqualTo("<xsl/>");
+
+        Thread.sleep(10);
+        stopServer();
+        assertThatThrownBy(() -> new DownloadableResourceCache(cacheDir, 0).get(url)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void missing_resource_fails_without_cache() {
+        errorCode = 404;
+        assertThatThrownBy(() -> new DownloadableResourceCache(cacheDir, 60000).get(url)) //
+            .isInstanceOf(IOException.class) //
+            .hasMessageContaining("404");
+    }
+
+    private void stopServer() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (errorCode != 0) {
+                exchange.sendResponseHeaders(errorCode, -1);
+                return;
+            }
+            String validator = etag != null ? exchange.getRequestHeaders().getFirst("If-None-Match") : exchange.getRequestHeaders().getFirst("If-Modified-Since");
+            boolean notModified = validator != null && validator.equals(etag != null ? etag : lastModified);
+            responses.add((notModified ? "304 " : "200 ") + (validator != null ? validator : ""));
+            if (etag != null) {
+                exchange.getResponseHeaders().set("ETag", etag);
+            }
+            if (lastModified != null) {
+                exchange.getResponseHeaders().set("Last-Modified", lastModified);
+            }
+            if (notModified) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            byte[] content = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, content.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(content);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+}